@@ -1,3 +1,133 @@
 package io.github.mcengine.common.currency;
 
-public class MCEngineCurrencyCommon {}
\ No newline at end of file
+import io.github.mcengine.api.currency.MCEngineCurrencyApi;
+import io.github.mcengine.common.currency.audit.MCEngineCurrencyCommonAudit;
+import io.github.mcengine.common.currency.command.MCEngineCurrencyCommonCommand;
+import io.github.mcengine.common.currency.listener.MCEngineCurrencyCommonListener;
+import io.github.mcengine.common.currency.listener.MCEngineCurrencyCommonListenerPlayerNameIndex;
+import io.github.mcengine.common.currency.platform.MCEngineCurrencyCommonPlatform;
+import io.github.mcengine.common.currency.scheduler.MCEngineCurrencyCommonScheduler;
+import io.github.mcengine.common.currency.tabcompleter.MCEngineCurrencyCommonPlayerNameIndex;
+import io.github.mcengine.common.currency.tabcompleter.MCEngineCurrencyCommonTabCompleter;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * Shared lifecycle for the currency plugin.
+ *
+ * <p>The platform-specific {@code MCEngineCurrency} classes delegate {@code onEnable} and
+ * {@code onDisable} here and only contribute their {@link MCEngineCurrencyCommonPlatform} hooks,
+ * so wiring changes are made once for every server platform.</p>
+ */
+public class MCEngineCurrencyCommon {
+
+    private final JavaPlugin plugin;
+    private final MCEngineCurrencyCommonPlatform platform;
+    private MCEngineCurrencyApi currencyApi;
+    private MCEngineCurrencyCommonScheduler scheduler;
+    private MCEngineCurrencyCommonAudit audit = MCEngineCurrencyCommonAudit.disabled();
+
+    /**
+     * Constructs the shared lifecycle for a plugin.
+     *
+     * @param plugin   the platform plugin instance
+     * @param platform the capability hooks of the running platform
+     */
+    public MCEngineCurrencyCommon(JavaPlugin plugin, MCEngineCurrencyCommonPlatform platform) {
+        this.plugin = plugin;
+        this.platform = platform;
+    }
+
+    /**
+     * Enables the plugin.
+     *
+     * <p>This method performs the following actions:</p>
+     * <ul>
+     *   <li>Saves the default configuration file if it doesn't already exist.</li>
+     *   <li>Retrieves the SQL type from the configuration, defaulting to "sqlite" if not set.</li>
+     *   <li>Initializes the {@code MCEngineCurrencyApi} with the selected SQL type.</li>
+     *   <li>Initializes the database connection.</li>
+     *   <li>Starts the audit stream if enabled.</li>
+     *   <li>Registers event listeners, the command executor and the platform tab completer.</li>
+     *   <li>Starts the recurring interest, tax and transfer scheduler if enabled.</li>
+     *   <li>Logs the successful enable message or disables the plugin if an exception occurs.</li>
+     * </ul>
+     */
+    public void enable() {
+        // Save default config if not already present
+        plugin.saveDefaultConfig();
+
+        // Read SQL type from config (default to sqlite)
+        String sqlType = plugin.getConfig().getString("database.type", "sqlite");
+
+        try {
+            // Initialize currency API
+            currencyApi = new MCEngineCurrencyApi(plugin, sqlType);
+            currencyApi.initDB();
+
+            if (plugin.getConfig().getBoolean("audit.enable", true)) {
+                audit = new MCEngineCurrencyCommonAudit(plugin, platform);
+                audit.start();
+            }
+
+            // Register listener and command using the shared API (the command manages the HeadDB hook listener)
+            plugin.getServer().getPluginManager().registerEvents(new MCEngineCurrencyCommonListener(currencyApi), plugin);
+            PluginCommand command = plugin.getCommand("currency");
+            command.setExecutor(new MCEngineCurrencyCommonCommand(plugin, currencyApi, audit));
+
+            // Player names for tab completion are indexed on join/quit instead of scanned per keystroke
+            MCEngineCurrencyCommonPlayerNameIndex nameIndex = new MCEngineCurrencyCommonPlayerNameIndex();
+            nameIndex.reset(plugin.getServer().getOnlinePlayers());
+            plugin.getServer().getPluginManager().registerEvents(new MCEngineCurrencyCommonListenerPlayerNameIndex(nameIndex), plugin);
+            platform.registerTabCompleter(command, new MCEngineCurrencyCommonTabCompleter(nameIndex));
+
+            if (plugin.getConfig().getBoolean("scheduler.enable", false)) {
+                scheduler = new MCEngineCurrencyCommonScheduler(plugin, currencyApi);
+                scheduler.start();
+            }
+
+            plugin.getLogger().info("has been enabled using SQL type: " + sqlType);
+        } catch (Exception e) {
+            plugin.getLogger().severe("Failed to initialize MCEngineCurrency: " + e.getMessage());
+            e.printStackTrace();
+            plugin.getServer().getPluginManager().disablePlugin(plugin);
+        }
+    }
+
+    /**
+     * Disables the plugin.
+     *
+     * <p>This method stops the scheduler and the audit stream, then safely disconnects from the database by calling {@code disConnect()}
+     * on the {@code currencyApi}. It logs the result of the disconnection process
+     * and catches any exceptions that may occur.</p>
+     */
+    public void disable() {
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+        audit.stop();
+        if (currencyApi != null) {
+            try {
+                currencyApi.disConnect();
+                plugin.getLogger().info("Database connection closed successfully.");
+            } catch (Exception e) {
+                plugin.getLogger().severe("Failed to close the database connection: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * @return the currency API, or {@code null} before {@link #enable()} succeeded
+     */
+    public MCEngineCurrencyApi getApi() {
+        return currencyApi;
+    }
+
+    /**
+     * @return the capability hooks of the running platform
+     */
+    public MCEngineCurrencyCommonPlatform getPlatform() {
+        return platform;
+    }
+}
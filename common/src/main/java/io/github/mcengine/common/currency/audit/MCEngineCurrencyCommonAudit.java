@@ -0,0 +1,323 @@
+package io.github.mcengine.common.currency.audit;
+
+import io.github.mcengine.common.currency.platform.MCEngineCurrencyCommonPlatform;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-process fraud detection over every balance mutation made by the command handlers and the HeadDB redeem listener.
+ *
+ * <p>Mutations are recorded into a bounded primitive ring without locking or allocating, so recording never adds
+ * latency to the mutation itself. An asynchronous task drains the ring once per second and keeps sliding-window
+ * inflow sums per player and per currency in fixed-size arrays. It flags:</p>
+ * <ul>
+ *   <li>a player's or the whole server's inflow for a currency far above its rolling baseline,</li>
+ *   <li>the same cash item being redeemed twice.</li>
+ * </ul>
+ * <p>Alerts are logged, appended to {@code audit.log} and sent to players with {@code mcengine.currency.audit}.</p>
+ */
+public class MCEngineCurrencyCommonAudit {
+
+    /**
+     * Kinds of recorded mutations.
+     */
+    public enum Kind {
+        ADD, PAY, CASH, EXCHANGE, REDEEM
+    }
+
+    /**
+     * Permission required to receive audit alerts in game.
+     */
+    public static final String ALERT_PERMISSION = "mcengine.currency.audit";
+
+    private static final String[] COIN_TYPES = {"coin", "copper", "silver", "gold"};
+    private static final Kind[] KINDS = Kind.values();
+    private static final MCEngineCurrencyCommonAudit DISABLED = new MCEngineCurrencyCommonAudit();
+
+    private final Plugin plugin;
+    private final MCEngineCurrencyCommonPlatform platform;
+    private final MCEngineCurrencyCommonAuditBuffer buffer;
+    private final MCEngineCurrencyCommonAuditCashIds cashIds;
+    private final MCEngineCurrencyCommonAuditWindows currencyWindows;
+    private final MCEngineCurrencyCommonAuditBuffer.Consumer consumer = this::onEvent;
+    private final List<String> alerts = new ArrayList<>();
+
+    /**
+     * Keeps the ring single-consumer when a drain takes longer than the timer period.
+     */
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final int maxPlayers;
+    private final int buckets;
+    private final long bucketMillis;
+    private final double multiplier;
+    private final double minInflow;
+
+    // Player UUID -> window row, open addressing; rows are 1-based so 0 marks an empty slot
+    private long[] keyMsbs;
+    private long[] keyLsbs;
+    private int[] keyRows;
+    private int playerCount;
+    private long compactedBucket = Long.MIN_VALUE;
+    private MCEngineCurrencyCommonAuditWindows playerWindows;
+
+    private BukkitTask task;
+
+    /**
+     * Constructs the analyzer from the {@code audit} section of the plugin configuration.
+     *
+     * @param plugin   the owning plugin
+     * @param platform the platform hooks used to send alerts from the analyzer thread
+     */
+    public MCEngineCurrencyCommonAudit(Plugin plugin, MCEngineCurrencyCommonPlatform platform) {
+        this.plugin = plugin;
+        this.platform = platform;
+        this.maxPlayers = Math.max(1, plugin.getConfig().getInt("audit.max-players", 4096));
+        this.buckets = Math.max(2, plugin.getConfig().getInt("audit.buckets", 30));
+        this.bucketMillis = Math.max(1, plugin.getConfig().getLong("audit.bucket-seconds", 10L)) * 1000L;
+        this.multiplier = plugin.getConfig().getDouble("audit.inflow-multiplier", 10D);
+        this.minInflow = plugin.getConfig().getDouble("audit.min-inflow", 1000D);
+        this.buffer = new MCEngineCurrencyCommonAuditBuffer(plugin.getConfig().getInt("audit.buffer-size", 65536));
+        this.cashIds = new MCEngineCurrencyCommonAuditCashIds(plugin.getConfig().getInt("audit.cash-ids", 65536));
+        this.currencyWindows = new MCEngineCurrencyCommonAuditWindows(1, COIN_TYPES.length, buckets);
+        resetPlayers();
+    }
+
+    private MCEngineCurrencyCommonAudit() {
+        this.plugin = null;
+        this.platform = null;
+        this.buffer = null;
+        this.cashIds = null;
+        this.currencyWindows = null;
+        this.maxPlayers = 0;
+        this.buckets = 0;
+        this.bucketMillis = 0L;
+        this.multiplier = 0D;
+        this.minInflow = 0D;
+    }
+
+    /**
+     * Returns an analyzer that ignores every recorded mutation, used when {@code audit.enable} is false.
+     *
+     * @return the shared disabled analyzer
+     */
+    public static MCEngineCurrencyCommonAudit disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Records a balance mutation. Negative amounts are outflows.
+     *
+     * @param kind     the kind of mutation
+     * @param player   the account whose balance changed
+     * @param coinType the coin type that changed
+     * @param amount   the signed amount
+     */
+    public void record(Kind kind, UUID player, String coinType, double amount) {
+        offer(kind, player, coinType, amount, null);
+    }
+
+    /**
+     * Records the redeem of a cash item.
+     *
+     * @param player   the redeeming player
+     * @param coinType the coin type stored in the item
+     * @param amount   the amount stored in the item
+     * @param cashId   the unique ID of the item, or {@code null} for items created before IDs existed
+     */
+    public void recordRedeem(UUID player, String coinType, double amount, UUID cashId) {
+        offer(Kind.REDEEM, player, coinType, amount, cashId);
+    }
+
+    private void offer(Kind kind, UUID player, String coinType, double amount, UUID cashId) {
+        if (buffer == null) return;
+        int currency = currencyIndex(coinType);
+        if (currency < 0) return;
+
+        buffer.offer((byte) kind.ordinal(), player.getMostSignificantBits(), player.getLeastSignificantBits(), (byte) currency, amount,
+                cashId == null ? 0L : cashId.getMostSignificantBits(), cashId == null ? 0L : cashId.getLeastSignificantBits(),
+                System.currentTimeMillis());
+    }
+
+    /**
+     * Starts draining recorded mutations on an asynchronous timer.
+     */
+    public void start() {
+        if (buffer == null) return;
+        task = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::drain, 20L, 20L);
+    }
+
+    /**
+     * Stops the analyzer. Mutations recorded afterwards are ignored once the ring is full.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Drains the ring, updates the windows and publishes any alerts raised.
+     */
+    private void drain() {
+        if (!draining.compareAndSet(false, true)) return;
+        try {
+            while (buffer.drain(consumer, 4096) > 0) {
+                // keep draining until the ring is empty
+            }
+            publishAlerts();
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    /**
+     * Reports dropped events, then logs, broadcasts and appends to {@code audit.log} the alerts raised by the last drain.
+     */
+    private void publishAlerts() {
+        long dropped = buffer.takeDropped();
+        if (dropped > 0) {
+            plugin.getLogger().warning("Audit buffer full, dropped " + dropped + " event(s).");
+        }
+
+        if (alerts.isEmpty()) return;
+
+        StringBuilder log = new StringBuilder();
+        for (String alert : alerts) {
+            plugin.getLogger().warning("[Audit] " + alert);
+            platform.broadcast(ChatColor.RED + "[Audit] " + alert, ALERT_PERMISSION);
+            log.append(Instant.now()).append(' ').append(alert).append(System.lineSeparator());
+        }
+        alerts.clear();
+
+        try {
+            Files.writeString(Path.of(plugin.getDataFolder().getPath(), "audit.log"), log, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to write audit.log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Processes one drained mutation.
+     */
+    private void onEvent(byte kind, long playerMsb, long playerLsb, byte currency, double amount, long cashMsb, long cashLsb, long time) {
+        String coinType = COIN_TYPES[currency];
+
+        if (kind == Kind.REDEEM.ordinal() && (cashMsb != 0L || cashLsb != 0L) && cashIds.addAndCheckDuplicate(cashMsb, cashLsb)) {
+            alerts.add("Cash item " + new UUID(cashMsb, cashLsb) + " redeemed again by " + new UUID(playerMsb, playerLsb)
+                    + " (" + amount + " " + coinType + ").");
+        }
+
+        if (amount <= 0) return;
+
+        long bucket = time / bucketMillis;
+        int row = rowFor(playerMsb, playerLsb, bucket);
+        if (row >= 0) {
+            double baseline = playerWindows.add(row, currency, amount, bucket, multiplier, minInflow);
+            if (baseline >= 0) {
+                alerts.add("Inflow spike: " + new UUID(playerMsb, playerLsb) + " received "
+                        + playerWindows.current(row, currency, bucket) + " " + coinType + " within " + (bucketMillis / 1000L)
+                        + "s (baseline " + baseline + ", last " + KINDS[kind].name().toLowerCase() + ").");
+            }
+        }
+
+        double baseline = currencyWindows.add(0, currency, amount, bucket, multiplier, minInflow);
+        if (baseline >= 0) {
+            alerts.add("Server-wide inflow spike: " + currencyWindows.current(0, currency, bucket) + " " + coinType
+                    + " within " + (bucketMillis / 1000L) + "s (baseline " + baseline + ").");
+        }
+    }
+
+    /**
+     * Returns the window row of a player, assigning one if needed.
+     *
+     * @return the row, or {@code -1} if every row is held by a player active within the window
+     *         (compaction is attempted at most once per bucket)
+     */
+    private int rowFor(long msb, long lsb, long bucket) {
+        int mask = keyRows.length - 1;
+        int index = hash(msb, lsb) & mask;
+        while (keyRows[index] != 0) {
+            if (keyMsbs[index] == msb && keyLsbs[index] == lsb) return keyRows[index] - 1;
+            index = (index + 1) & mask;
+        }
+
+        if (playerCount == maxPlayers) {
+            if (compactedBucket == bucket) return -1;
+            compactedBucket = bucket;
+            compact(bucket);
+            if (playerCount == maxPlayers) return -1;
+            return rowFor(msb, lsb, bucket);
+        }
+
+        keyMsbs[index] = msb;
+        keyLsbs[index] = lsb;
+        keyRows[index] = ++playerCount;
+        return playerCount - 1;
+    }
+
+    /**
+     * Drops players whose last inflow slid out of the window, rebuilding the table and windows without them.
+     */
+    private void compact(long bucket) {
+        long[] oldMsbs = keyMsbs;
+        long[] oldLsbs = keyLsbs;
+        int[] oldRows = keyRows;
+        MCEngineCurrencyCommonAuditWindows oldWindows = playerWindows;
+
+        resetPlayers();
+        int mask = keyRows.length - 1;
+        for (int i = 0; i < oldRows.length; i++) {
+            if (oldRows[i] == 0) continue;
+            int oldRow = oldRows[i] - 1;
+            if (bucket - oldWindows.lastBucket(oldRow) >= buckets) continue;
+
+            int index = hash(oldMsbs[i], oldLsbs[i]) & mask;
+            while (keyRows[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            keyMsbs[index] = oldMsbs[i];
+            keyLsbs[index] = oldLsbs[i];
+            keyRows[index] = ++playerCount;
+            oldWindows.copyRow(oldRow, playerWindows, playerCount - 1);
+        }
+    }
+
+    private void resetPlayers() {
+        int capacity = Integer.highestOneBit(Math.max(2, maxPlayers * 2 - 1)) << 1;
+        keyMsbs = new long[capacity];
+        keyLsbs = new long[capacity];
+        keyRows = new int[capacity];
+        playerCount = 0;
+        playerWindows = new MCEngineCurrencyCommonAuditWindows(maxPlayers, COIN_TYPES.length, buckets);
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int currencyIndex(String coinType) {
+        return switch (coinType) {
+            case "coin" -> 0;
+            case "copper" -> 1;
+            case "silver" -> 2;
+            case "gold" -> 3;
+            default -> -1;
+        };
+    }
+}
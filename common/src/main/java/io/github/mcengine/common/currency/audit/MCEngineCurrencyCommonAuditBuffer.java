@@ -0,0 +1,116 @@
+package io.github.mcengine.common.currency.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring of mutation events stored in parallel primitive arrays.
+ *
+ * <p>Producers claim a slot with a single CAS and never block or allocate; when the ring is full the
+ * event is dropped and counted instead of slowing down the mutation. The consumer reads slots in order
+ * once their sequence has been published.</p>
+ */
+final class MCEngineCurrencyCommonAuditBuffer {
+
+    /**
+     * Receives drained events without boxing them into objects.
+     */
+    interface Consumer {
+        void accept(byte kind, long playerMsb, long playerLsb, byte currency, double amount, long cashMsb, long cashLsb, long time);
+    }
+
+    private final int capacity;
+    private final int mask;
+    private final byte[] kinds;
+    private final long[] playerMsbs;
+    private final long[] playerLsbs;
+    private final byte[] currencies;
+    private final double[] amounts;
+    private final long[] cashMsbs;
+    private final long[] cashLsbs;
+    private final long[] times;
+
+    /**
+     * {@code published[i] == seq + 1} once the event with sequence {@code seq} is fully written to slot {@code i}.
+     */
+    private final AtomicLongArray published;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Next sequence to read; written only by the consumer.
+     */
+    private volatile long tail;
+
+    /**
+     * @param minCapacity the minimum number of buffered events, rounded up to a power of two
+     */
+    MCEngineCurrencyCommonAuditBuffer(int minCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, minCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.kinds = new byte[capacity];
+        this.playerMsbs = new long[capacity];
+        this.playerLsbs = new long[capacity];
+        this.currencies = new byte[capacity];
+        this.amounts = new double[capacity];
+        this.cashMsbs = new long[capacity];
+        this.cashLsbs = new long[capacity];
+        this.times = new long[capacity];
+        this.published = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * Appends an event, or drops it if the consumer has fallen a full ring behind.
+     *
+     * @return true if the event was buffered
+     */
+    boolean offer(byte kind, long playerMsb, long playerLsb, byte currency, double amount, long cashMsb, long cashLsb, long time) {
+        long seq;
+        do {
+            seq = head.get();
+            if (seq - tail >= capacity) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!head.compareAndSet(seq, seq + 1));
+
+        int index = (int) seq & mask;
+        kinds[index] = kind;
+        playerMsbs[index] = playerMsb;
+        playerLsbs[index] = playerLsb;
+        currencies[index] = currency;
+        amounts[index] = amount;
+        cashMsbs[index] = cashMsb;
+        cashLsbs[index] = cashLsb;
+        times[index] = time;
+        published.lazySet(index, seq + 1);
+        return true;
+    }
+
+    /**
+     * Passes up to {@code max} published events to the consumer, in order. Must only be called from one thread.
+     *
+     * @return the number of events drained
+     */
+    int drain(Consumer consumer, int max) {
+        long seq = tail;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) seq & mask;
+            if (published.get(index) != seq + 1) break;
+            consumer.accept(kinds[index], playerMsbs[index], playerLsbs[index], currencies[index],
+                    amounts[index], cashMsbs[index], cashLsbs[index], times[index]);
+            seq++;
+            drained++;
+        }
+        tail = seq;
+        return drained;
+    }
+
+    /**
+     * @return the number of events dropped because the ring was full, since the last call
+     */
+    long takeDropped() {
+        return dropped.getAndSet(0L);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.mcengine.common.currency.audit;
+
+import java.util.Arrays;
+
+/**
+ * Bounded set of recently redeemed cash item IDs, used to detect the same item being redeemed twice.
+ *
+ * <p>IDs are stored as two longs in open-addressing tables. Two generations are kept: when the current
+ * table is half full it becomes the previous one and the oldest generation is cleared, so memory stays fixed
+ * while the most recent redeems are always remembered.</p>
+ */
+final class MCEngineCurrencyCommonAuditCashIds {
+
+    private final int mask;
+    private final int limit;
+    private final long[][] msbs = new long[2][];
+    private final long[][] lsbs = new long[2][];
+    private final boolean[][] used = new boolean[2][];
+    private int current;
+    private int size;
+
+    /**
+     * @param minCapacity the minimum capacity of one generation, rounded up to a power of two
+     */
+    MCEngineCurrencyCommonAuditCashIds(int minCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, minCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.limit = capacity / 2;
+        for (int i = 0; i < 2; i++) {
+            msbs[i] = new long[capacity];
+            lsbs[i] = new long[capacity];
+            used[i] = new boolean[capacity];
+        }
+    }
+
+    /**
+     * Records a redeemed cash ID.
+     *
+     * @return true if the ID was already redeemed recently
+     */
+    boolean addAndCheckDuplicate(long msb, long lsb) {
+        if (contains(current, msb, lsb) || contains(1 - current, msb, lsb)) return true;
+
+        int index = hash(msb, lsb);
+        while (used[current][index]) {
+            index = (index + 1) & mask;
+        }
+        used[current][index] = true;
+        msbs[current][index] = msb;
+        lsbs[current][index] = lsb;
+
+        if (++size >= limit) {
+            current = 1 - current;
+            Arrays.fill(used[current], false);
+            size = 0;
+        }
+        return false;
+    }
+
+    private boolean contains(int generation, long msb, long lsb) {
+        int index = hash(msb, lsb);
+        while (used[generation][index]) {
+            if (msbs[generation][index] == msb && lsbs[generation][index] == lsb) return true;
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    private int hash(long msb, long lsb) {
+        long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
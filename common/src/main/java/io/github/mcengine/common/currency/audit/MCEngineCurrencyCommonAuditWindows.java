@@ -0,0 +1,119 @@
+package io.github.mcengine.common.currency.audit;
+
+import java.util.Arrays;
+
+/**
+ * Sliding-window inflow sums for a fixed number of rows, each with one ring of time buckets per currency.
+ *
+ * <p>All sums live in one flat {@code double[]}, so memory is fixed at
+ * {@code rows * currencies * buckets} doubles regardless of traffic.</p>
+ *
+ * <p>A row never moves backwards in time: an inflow for a bucket older than the last one written
+ * (for example after the wall clock stepped back) is counted in the last bucket instead.</p>
+ */
+final class MCEngineCurrencyCommonAuditWindows {
+
+    private final int currencies;
+    private final int buckets;
+    private final double[] sums;
+
+    /**
+     * Last bucket id written per row, used to clear buckets that slid out of the window.
+     */
+    private final long[] rowBuckets;
+
+    /**
+     * Last bucket id an alert was raised for, per row and currency, so each spike is reported once.
+     */
+    private final long[] alertedBuckets;
+
+    MCEngineCurrencyCommonAuditWindows(int rows, int currencies, int buckets) {
+        this.currencies = currencies;
+        this.buckets = buckets;
+        this.sums = new double[rows * currencies * buckets];
+        this.rowBuckets = new long[rows];
+        this.alertedBuckets = new long[rows * currencies];
+        Arrays.fill(rowBuckets, Long.MIN_VALUE);
+        Arrays.fill(alertedBuckets, Long.MIN_VALUE);
+    }
+
+    /**
+     * @return the last bucket id written for a row, or {@link Long#MIN_VALUE} if never written
+     */
+    long lastBucket(int row) {
+        return rowBuckets[row];
+    }
+
+    /**
+     * Adds an inflow to the current bucket of a row and checks it against the rolling baseline
+     * of the other buckets in the window.
+     *
+     * @param row        the row
+     * @param currency   the currency index
+     * @param amount     the inflow amount
+     * @param bucket     the current bucket id
+     * @param multiplier how many times the baseline the current bucket may reach
+     * @param minInflow  absolute floor below which the current bucket is never flagged
+     * @return the baseline if this inflow pushed the bucket over the threshold for the first time, otherwise {@code -1}
+     */
+    double add(int row, int currency, double amount, long bucket, double multiplier, double minInflow) {
+        bucket = Math.max(bucket, rowBuckets[row]);
+        advance(row, bucket);
+
+        int base = (row * currencies + currency) * buckets;
+        int current = (int) Math.floorMod(bucket, (long) buckets);
+        sums[base + current] += amount;
+
+        double others = 0D;
+        for (int i = 0; i < buckets; i++) {
+            if (i != current) others += sums[base + i];
+        }
+        double baseline = buckets > 1 ? others / (buckets - 1) : 0D;
+
+        int alertIndex = row * currencies + currency;
+        if (sums[base + current] > Math.max(baseline * multiplier, minInflow) && alertedBuckets[alertIndex] != bucket) {
+            alertedBuckets[alertIndex] = bucket;
+            return baseline;
+        }
+        return -1D;
+    }
+
+    /**
+     * @return the inflow summed in the current bucket of a row
+     */
+    double current(int row, int currency, long bucket) {
+        bucket = Math.max(bucket, rowBuckets[row]);
+        return sums[(row * currencies + currency) * buckets + (int) Math.floorMod(bucket, (long) buckets)];
+    }
+
+    /**
+     * Copies the state of a row into another instance, used when the player table is compacted.
+     */
+    void copyRow(int from, MCEngineCurrencyCommonAuditWindows target, int to) {
+        int length = currencies * buckets;
+        System.arraycopy(sums, from * length, target.sums, to * length, length);
+        System.arraycopy(alertedBuckets, from * currencies, target.alertedBuckets, to * currencies, currencies);
+        target.rowBuckets[to] = rowBuckets[from];
+    }
+
+    /**
+     * Clears the buckets a row skipped since it was last written. {@code bucket} is never older than the last bucket.
+     */
+    private void advance(int row, long bucket) {
+        long last = rowBuckets[row];
+        if (last == bucket) return;
+
+        int length = currencies * buckets;
+        if (last == Long.MIN_VALUE || bucket - last >= buckets) {
+            Arrays.fill(sums, row * length, (row + 1) * length, 0D);
+        } else {
+            for (long b = last + 1; b <= bucket; b++) {
+                int slot = (int) Math.floorMod(b, (long) buckets);
+                for (int c = 0; c < currencies; c++) {
+                    sums[(row * currencies + c) * buckets + slot] = 0D;
+                }
+            }
+        }
+        rowBuckets[row] = bucket;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * This package is designed for use with Minecraft across multiple services.
+ * It provides common utilities for detecting suspicious currency activity.
+ */
+package io.github.mcengine.common.currency.audit;
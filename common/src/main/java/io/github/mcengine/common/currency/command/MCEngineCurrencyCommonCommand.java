@@ -1,16 +1,26 @@
 package io.github.mcengine.common.currency.command;
 
 import io.github.mcengine.api.currency.MCEngineCurrencyApi;
+import io.github.mcengine.common.currency.audit.MCEngineCurrencyCommonAudit;
+import io.github.mcengine.common.currency.config.MCEngineCurrencyCommonConfig;
 import io.github.mcengine.common.currency.item.ItemManager;
+import io.github.mcengine.common.currency.listener.hook.MCEngineCurrencyCommonListenerHookHeadDB;
+import io.github.mcengine.common.currency.listener.hook.MCEngineCurrencyCommonListenerHookHeadDBLoad;
+import io.github.mcengine.common.currency.transaction.MCEngineCurrencyCommonRefund;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.UUID;
 
 /**
@@ -20,20 +30,77 @@ public class MCEngineCurrencyCommonCommand implements CommandExecutor {
 
     private Plugin plugin;
     private final MCEngineCurrencyApi currencyApi;
-    private String coinHeadId, copperHeadId, silverHeadId, goldHeadId;
+    private final MCEngineCurrencyCommonAudit audit;
 
     /**
-     * Constructs a new currency command handler.
+     * The registered HeadDB cash listener, or {@code null} while the hook is disabled.
+     */
+    private MCEngineCurrencyCommonListenerHookHeadDB headDBListener;
+
+    /**
+     * The registered HeadDB database load listener, or {@code null} while the hook is disabled.
+     */
+    private MCEngineCurrencyCommonListenerHookHeadDBLoad headDBLoadListener;
+
+    /**
+     * Constructs a new currency command handler, publishes the initial config snapshot
+     * and registers the HeadDB cash listener if the hook is enabled.
      *
+     * @param plugin      The plugin instance used for configuration and listener registration.
      * @param currencyApi The currency API instance for handling transactions.
      */
     public MCEngineCurrencyCommonCommand(Plugin plugin, MCEngineCurrencyApi currencyApi) {
+        this(plugin, currencyApi, MCEngineCurrencyCommonAudit.disabled());
+    }
+
+    /**
+     * Constructs a new currency command handler that reports every balance mutation to the audit stream.
+     *
+     * @param plugin      The plugin instance used for configuration and listener registration.
+     * @param currencyApi The currency API instance for handling transactions.
+     * @param audit       The audit stream fed with every mutation.
+     */
+    public MCEngineCurrencyCommonCommand(Plugin plugin, MCEngineCurrencyApi currencyApi, MCEngineCurrencyCommonAudit audit) {
         this.plugin = plugin;
         this.currencyApi = currencyApi;
-        this.coinHeadId = plugin.getConfig().getString("texture.coin", "63066");
-        this.copperHeadId = plugin.getConfig().getString("texture.copper", "40534");
-        this.silverHeadId = plugin.getConfig().getString("texture.silver", "51708");
-        this.goldHeadId = plugin.getConfig().getString("texture.gold", "56431");
+        this.audit = audit;
+        applyHeadDBHook(MCEngineCurrencyCommonConfig.load(plugin.getConfig()).isHookHeadDB());
+    }
+
+    /**
+     * Reloads {@code config.yml} and applies it without restarting the plugin.
+     * The file is parsed on its own first, so a broken file leaves the current snapshot in place.
+     * On success a new config snapshot (cash item templates and exchange rates) is published in one swap
+     * and the HeadDB cash listener is registered or unregistered to match {@code hook.HeadDB.enable}.
+     *
+     * <p>{@code database.*}, {@code audit.*} and {@code scheduler.*} are not reloaded and need a restart.</p>
+     *
+     * @throws IOException                   if {@code config.yml} cannot be read
+     * @throws InvalidConfigurationException if {@code config.yml} is not valid YAML
+     */
+    public void reload() throws IOException, InvalidConfigurationException {
+        YamlConfiguration config = new YamlConfiguration();
+        config.load(new File(plugin.getDataFolder(), "config.yml"));
+        applyHeadDBHook(MCEngineCurrencyCommonConfig.load(config).isHookHeadDB());
+    }
+
+    /**
+     * Registers or unregisters the HeadDB cash and database load listeners.
+     *
+     * @param enable whether the hook should be active
+     */
+    private void applyHeadDBHook(boolean enable) {
+        if (enable && headDBListener == null) {
+            headDBListener = new MCEngineCurrencyCommonListenerHookHeadDB(currencyApi, audit);
+            headDBLoadListener = new MCEngineCurrencyCommonListenerHookHeadDBLoad();
+            plugin.getServer().getPluginManager().registerEvents(headDBListener, plugin);
+            plugin.getServer().getPluginManager().registerEvents(headDBLoadListener, plugin);
+        } else if (!enable && headDBListener != null) {
+            HandlerList.unregisterAll(headDBListener);
+            HandlerList.unregisterAll(headDBLoadListener);
+            headDBListener = null;
+            headDBLoadListener = null;
+        }
     }
 
     /**
@@ -47,6 +114,11 @@ public class MCEngineCurrencyCommonCommand implements CommandExecutor {
      */
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (args.length == 1 && args[0].equalsIgnoreCase("reload")) {
+            handleReloadCommand(sender);
+            return true;
+        }
+
         if (!(sender instanceof Player player)) {
             sender.sendMessage(ChatColor.RED + "Only players can use this command.");
             return true;
@@ -61,6 +133,7 @@ public class MCEngineCurrencyCommonCommand implements CommandExecutor {
             case "add" -> handleAddCommand(sender, args);
             case "cash" -> handleCashCommand(player, args);
             case "check" -> handleCheckCommand(player, args);
+            case "exchange" -> handleExchangeCommand(player, args);
             case "pay" -> handlePayCommand(player, args);
             default -> sender.sendMessage(ChatColor.RED + "Invalid action. Usage: /currency <check||pay> <currencyType||player> <amount> <currencyType>");
         }
@@ -72,7 +145,35 @@ public class MCEngineCurrencyCommonCommand implements CommandExecutor {
         sender.sendMessage(ChatColor.RED + "/currency add <player> <coinType> <amount>");
         sender.sendMessage(ChatColor.RED + "/currency cash <coinType> <amount>");
         sender.sendMessage(ChatColor.RED + "/currency check <coinType>");
+        sender.sendMessage(ChatColor.RED + "/currency exchange <fromCoinType> <toCoinType> <amount>");
         sender.sendMessage(ChatColor.RED + "/currency pay <player> <amount> <currencyType> <note>");
+        sender.sendMessage(ChatColor.RED + "/currency reload");
+    }
+
+    /**
+     * Handles the "reload" command to apply {@code config.yml} changes without a restart.
+     *
+     * @param sender The command sender.
+     * @return true if the command was executed successfully.
+     */
+    private boolean handleReloadCommand(CommandSender sender) {
+        if (!sender.hasPermission("mcengine.currency.reload")) {
+            sender.sendMessage(ChatColor.RED + "You do not have permission to use this command.");
+            return true;
+        }
+
+        try {
+            reload();
+            sender.sendMessage(ChatColor.GREEN + "Currency configuration reloaded.");
+            sender.sendMessage(ChatColor.GRAY + "Database, audit and scheduler settings apply after a restart.");
+        } catch (InvalidConfigurationException e) {
+            sender.sendMessage(ChatColor.RED + "config.yml is not valid YAML. The current configuration was kept.");
+            Bukkit.getLogger().warning("Reload failed, config.yml could not be parsed: " + e.getMessage());
+        } catch (Exception e) {
+            sender.sendMessage(ChatColor.RED + "Failed to reload the configuration. Check the console for details.");
+            Bukkit.getLogger().warning("Reload failed: " + e.getMessage());
+        }
+        return true;
     }
 
     /**
@@ -110,6 +211,11 @@ public class MCEngineCurrencyCommonCommand implements CommandExecutor {
             return true;
         }
 
+        if (!Double.isFinite(amount)) {
+            sender.sendMessage(ChatColor.RED + "The amount must be a valid number.");
+            return true;
+        }
+
         if (amount <= 0) {
             sender.sendMessage(ChatColor.RED + "The amount must be greater than zero.");
             return true;
@@ -123,6 +229,7 @@ public class MCEngineCurrencyCommonCommand implements CommandExecutor {
 
         UUID targetUUID = targetPlayer.getUniqueId();
         currencyApi.addCoin(targetUUID, coinType, amount);
+        audit.record(MCEngineCurrencyCommonAudit.Kind.ADD, targetUUID, coinType, amount);
 
         sender.sendMessage(ChatColor.GREEN + "Added " + amount + " " + coinType + " to " + targetPlayer.getName() + ".");
         targetPlayer.sendMessage(ChatColor.GREEN + "You have been given " + amount + " " + coinType + " by " + sender.getName() + ".");
@@ -138,9 +245,7 @@ public class MCEngineCurrencyCommonCommand implements CommandExecutor {
      * @return true if the command was handled successfully, false otherwise
      */
     private boolean handleCashCommand(Player player, String[] args) {
-        boolean hookHeadDB = plugin.getConfig().getBoolean("hook.HeadDB.enable", false);
-
-        if (!hookHeadDB) {
+        if (!MCEngineCurrencyCommonConfig.get().isHookHeadDB()) {
             player.sendMessage(ChatColor.RED + "This function isn't supported.");
             return true;
         }
@@ -156,13 +261,6 @@ public class MCEngineCurrencyCommonCommand implements CommandExecutor {
             return true;
         }
 
-        String headId = switch (coinType) {
-            case "copper" -> copperHeadId;
-            case "silver" -> silverHeadId;
-            case "gold" -> goldHeadId;
-            default -> coinHeadId;
-        };
-
         double amount;
         try {
             amount = Double.parseDouble(args[2]);
@@ -171,6 +269,11 @@ public class MCEngineCurrencyCommonCommand implements CommandExecutor {
             return true;
         }
 
+        if (!Double.isFinite(amount)) {
+            player.sendMessage(ChatColor.RED + "Amount must be a number.");
+            return true;
+        }
+
         if (amount <= 0) {
             player.sendMessage(ChatColor.RED + "Amount must be greater than zero.");
             return true;
@@ -184,9 +287,10 @@ public class MCEngineCurrencyCommonCommand implements CommandExecutor {
 
         // Deduct the currency
         currencyApi.minusCoin(player.getUniqueId(), coinType, amount);
+        audit.record(MCEngineCurrencyCommonAudit.Kind.CASH, player.getUniqueId(), coinType, -amount);
 
         // Create the cash item and give it to the player
-        ItemStack cashItem = ItemManager.createCashItem(headId, coinType, amount);
+        ItemStack cashItem = ItemManager.createCashItem(coinType, amount);
         player.getInventory().addItem(cashItem);
 
         player.sendMessage(ChatColor.GREEN + "You converted " + amount + " " + coinType + " into a cash item.");
@@ -217,6 +321,120 @@ public class MCEngineCurrencyCommonCommand implements CommandExecutor {
         return true;
     }
 
+    /**
+     * Handles the "exchange" command to convert one coin type into another using the configured rates.
+     *
+     * <p>The debit, credit and ledger entry run back to back on the calling thread, the same way as "pay".
+     * If the credit fails, the debit is refunded so the player never ends up with neither amount.</p>
+     *
+     * @param player The player executing the command.
+     * @param args   The command arguments.
+     * @return true if the command was executed successfully.
+     */
+    private boolean handleExchangeCommand(Player player, String[] args) {
+        if (args.length != 4) {
+            player.sendMessage(ChatColor.RED + "Usage: /currency exchange <fromCoinType> <toCoinType> <amount>");
+            return true;
+        }
+
+        if (!player.hasPermission("mcengine.currency.exchange")) {
+            player.sendMessage(ChatColor.RED + "You do not have permission to use this command.");
+            return true;
+        }
+
+        String fromType = args[1].toLowerCase();
+        String toType = args[2].toLowerCase();
+
+        if (!fromType.matches("coin|copper|silver|gold") || !toType.matches("coin|copper|silver|gold")) {
+            player.sendMessage(ChatColor.RED + "Invalid coin type. Use: coin, copper, silver, gold.");
+            return true;
+        }
+
+        double rate = MCEngineCurrencyCommonConfig.get().getExchangeRates().getRate(fromType, toType);
+        if (Double.isNaN(rate)) {
+            player.sendMessage(ChatColor.RED + "You cannot exchange " + fromType + " to " + toType + ".");
+            return true;
+        }
+
+        double amount;
+        try {
+            amount = Double.parseDouble(args[3]);
+        } catch (NumberFormatException e) {
+            player.sendMessage(ChatColor.RED + "The amount must be a valid number.");
+            return true;
+        }
+
+        if (!Double.isFinite(amount)) {
+            player.sendMessage(ChatColor.RED + "The amount must be a valid number.");
+            return true;
+        }
+
+        if (amount <= 0) {
+            player.sendMessage(ChatColor.RED + "The amount must be greater than zero.");
+            return true;
+        }
+
+        UUID playerUUID = player.getUniqueId();
+        if (currencyApi.getCoin(playerUUID, fromType) < amount) {
+            player.sendMessage(ChatColor.RED + "You do not have enough " + fromType + ".");
+            return true;
+        }
+
+        double converted = amount * rate;
+        if (!Double.isFinite(converted)) {
+            player.sendMessage(ChatColor.RED + "The amount is too large to exchange.");
+            return true;
+        }
+
+        try {
+            currencyApi.minusCoin(playerUUID, fromType, amount);
+        } catch (Exception e) {
+            player.sendMessage(ChatColor.RED + "An error occurred during the exchange. Please try again later.");
+            Bukkit.getLogger().warning("Exchange failed: " + e.getMessage());
+            return true;
+        }
+
+        try {
+            currencyApi.addCoin(playerUUID, toType, converted);
+        } catch (Exception e) {
+            refundExchange(player, fromType, amount, toType, converted, e);
+            return true;
+        }
+
+        // Debit and credit have both landed: the exchange succeeded whatever happens to the ledger entry
+        audit.record(MCEngineCurrencyCommonAudit.Kind.EXCHANGE, playerUUID, fromType, -amount);
+        audit.record(MCEngineCurrencyCommonAudit.Kind.EXCHANGE, playerUUID, toType, converted);
+        player.sendMessage(ChatColor.GREEN + "You exchanged " + amount + " " + fromType + " for " + converted + " " + toType + ".");
+
+        try {
+            currencyApi.createTransaction(playerUUID, playerUUID, fromType, "exchange", amount, converted + " " + toType);
+        } catch (Exception e) {
+            Bukkit.getLogger().warning("Exchange ledger entry failed for " + playerUUID + " (" + amount + " " + fromType
+                    + " -> " + converted + " " + toType + "); balances were updated: " + e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Refunds the debit of an exchange whose credit failed, so the player never ends up holding neither amount.
+     * If the refund fails too, {@link MCEngineCurrencyCommonRefund} logs the amounts as severe for manual correction.
+     *
+     * @param player     The player executing the exchange.
+     * @param fromType   The coin type that was debited.
+     * @param amount     The debited amount.
+     * @param toType     The coin type whose credit failed.
+     * @param converted  The amount that failed to be credited.
+     * @param cause      The failure of the credit.
+     */
+    private void refundExchange(Player player, String fromType, double amount, String toType, double converted, Exception cause) {
+        String operation = "Exchange of " + amount + " " + fromType + " for " + converted + " " + toType + " by " + player.getName();
+        if (MCEngineCurrencyCommonRefund.refund(currencyApi, Bukkit.getLogger(), player.getUniqueId(), fromType, amount, operation, cause)) {
+            player.sendMessage(ChatColor.RED + "An error occurred during the exchange. Your " + fromType + " was refunded.");
+        } else {
+            player.sendMessage(ChatColor.RED + "An error occurred during the exchange. Please contact an administrator.");
+        }
+    }
+
     /**
      * Handles the "pay" command to send currency to another player.
      *
@@ -253,6 +471,11 @@ public class MCEngineCurrencyCommonCommand implements CommandExecutor {
             return true;
         }
 
+        if (!Double.isFinite(amount)) {
+            senderPlayer.sendMessage(ChatColor.RED + "The amount must be a valid number.");
+            return true;
+        }
+
         if (amount <= 0) {
             senderPlayer.sendMessage(ChatColor.RED + "The amount must be greater than zero.");
             return true;
@@ -282,6 +505,8 @@ public class MCEngineCurrencyCommonCommand implements CommandExecutor {
             currencyApi.minusCoin(senderUUID, currencyType, amount);
             currencyApi.addCoin(targetUUID, currencyType, amount);
             currencyApi.createTransaction(senderUUID, targetUUID, currencyType, "pay", amount, note);
+            audit.record(MCEngineCurrencyCommonAudit.Kind.PAY, senderUUID, currencyType, -amount);
+            audit.record(MCEngineCurrencyCommonAudit.Kind.PAY, targetUUID, currencyType, amount);
 
             senderPlayer.sendMessage(ChatColor.GREEN + "You have sent " + amount + " " + currencyType + " to " + targetPlayer.getName() + ". Note: " + note);
             targetPlayer.sendMessage(ChatColor.GREEN + "You have received " + amount + " " + currencyType + " from " + senderPlayer.getName() + ". Note: " + note);
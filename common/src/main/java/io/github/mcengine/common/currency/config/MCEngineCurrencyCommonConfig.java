@@ -0,0 +1,155 @@
+package io.github.mcengine.common.currency.config;
+
+import io.github.mcengine.common.currency.exchange.MCEngineCurrencyCommonExchangeRates;
+import io.github.mcengine.common.currency.item.ItemManager;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Immutable snapshot of the settings read on the command and listener hot paths.
+ *
+ * <p>A new snapshot is built on enable and on {@code /currency reload} and published through an
+ * atomic reference, so readers never touch {@code plugin.getConfig()} and never see a half-applied reload.</p>
+ *
+ * <p>Only {@code hook.*}, {@code texture.*} and {@code exchange.*} are part of the snapshot. {@code database.*},
+ * {@code audit.*} and {@code scheduler.*} are read once on enable and still need a restart to change.</p>
+ */
+public final class MCEngineCurrencyCommonConfig {
+
+    /**
+     * Default HeadDB texture IDs per coin type, used when {@code texture.*} is missing.
+     */
+    private static final Map<String, String> DEFAULT_HEAD_IDS = Map.of(
+            "coin", "63066",
+            "copper", "40534",
+            "silver", "51708",
+            "gold", "56431"
+    );
+
+    /**
+     * The currently published snapshot.
+     */
+    private static final AtomicReference<MCEngineCurrencyCommonConfig> CURRENT = new AtomicReference<>(
+            new MCEngineCurrencyCommonConfig(false, DEFAULT_HEAD_IDS, Collections.emptyMap(), MCEngineCurrencyCommonExchangeRates.NONE));
+
+    private final boolean hookHeadDB;
+    private final Map<String, String> headIds;
+    private final Map<String, ItemStack> cashTemplates;
+    private final MCEngineCurrencyCommonExchangeRates exchangeRates;
+
+    private MCEngineCurrencyCommonConfig(boolean hookHeadDB, Map<String, String> headIds, Map<String, ItemStack> cashTemplates,
+                                         MCEngineCurrencyCommonExchangeRates exchangeRates) {
+        this.hookHeadDB = hookHeadDB;
+        this.headIds = headIds;
+        this.cashTemplates = cashTemplates;
+        this.exchangeRates = exchangeRates;
+    }
+
+    /**
+     * Returns the currently published snapshot.
+     *
+     * @return the current configuration snapshot
+     */
+    public static MCEngineCurrencyCommonConfig get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Builds a new snapshot from the given configuration and publishes it.
+     * Cash item templates are rebuilt from HeadDB when the hook is enabled.
+     * The hook is treated as disabled while the HeadDatabase plugin is not installed,
+     * so no HeadDB class is loaded without it.
+     *
+     * @param config the plugin configuration
+     * @return the newly published snapshot
+     */
+    public static MCEngineCurrencyCommonConfig load(FileConfiguration config) {
+        boolean hookHeadDB = config.getBoolean("hook.HeadDB.enable", false);
+        if (hookHeadDB && Bukkit.getPluginManager().getPlugin("HeadDatabase") == null) {
+            Bukkit.getLogger().warning("hook.HeadDB.enable is set but HeadDatabase is not installed; the HeadDB hook is disabled.");
+            hookHeadDB = false;
+        }
+
+        Map<String, String> headIds = new HashMap<>();
+        for (Map.Entry<String, String> entry : DEFAULT_HEAD_IDS.entrySet()) {
+            headIds.put(entry.getKey(), config.getString("texture." + entry.getKey(), entry.getValue()));
+        }
+
+        MCEngineCurrencyCommonConfig snapshot = new MCEngineCurrencyCommonConfig(hookHeadDB, Map.copyOf(headIds),
+                buildCashTemplates(hookHeadDB, headIds), MCEngineCurrencyCommonExchangeRates.load(config));
+        CURRENT.set(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Republishes the current snapshot with cash item templates rebuilt from HeadDB.
+     * HeadDB loads its database asynchronously after startup, so templates built before
+     * that are missing and must be rebuilt once it is ready.
+     *
+     * <p>The rebuild is retried if a reload publishes a newer snapshot meanwhile, so it never reverts one.</p>
+     *
+     * @return the newly published snapshot
+     */
+    public static MCEngineCurrencyCommonConfig rebuildCashTemplates() {
+        while (true) {
+            MCEngineCurrencyCommonConfig previous = CURRENT.get();
+            MCEngineCurrencyCommonConfig snapshot = new MCEngineCurrencyCommonConfig(previous.hookHeadDB, previous.headIds,
+                    buildCashTemplates(previous.hookHeadDB, previous.headIds), previous.exchangeRates);
+            if (CURRENT.compareAndSet(previous, snapshot)) return snapshot;
+        }
+    }
+
+    private static Map<String, ItemStack> buildCashTemplates(boolean hookHeadDB, Map<String, String> headIds) {
+        if (!hookHeadDB) return Collections.emptyMap();
+
+        Map<String, ItemStack> cashTemplates = new HashMap<>();
+        for (Map.Entry<String, String> entry : headIds.entrySet()) {
+            ItemStack template = ItemManager.createHead(entry.getValue());
+            if (template != null) {
+                cashTemplates.put(entry.getKey(), template);
+            }
+        }
+        return Map.copyOf(cashTemplates);
+    }
+
+    /**
+     * @return whether the HeadDB cash hook is enabled
+     */
+    public boolean isHookHeadDB() {
+        return hookHeadDB;
+    }
+
+    /**
+     * Returns the HeadDB texture ID configured for a coin type.
+     *
+     * @param coinType the coin type
+     * @return the texture ID, falling back to the coin texture for unknown types
+     */
+    public String getHeadId(String coinType) {
+        return headIds.getOrDefault(coinType, headIds.get("coin"));
+    }
+
+    /**
+     * Returns a copy of the prebuilt cash item template for a coin type.
+     *
+     * @param coinType the coin type
+     * @return a fresh copy of the template, or {@code null} if none was built
+     */
+    public ItemStack getCashTemplate(String coinType) {
+        ItemStack template = cashTemplates.get(coinType);
+        return template == null ? null : template.clone();
+    }
+
+    /**
+     * @return the exchange rates between coin types
+     */
+    public MCEngineCurrencyCommonExchangeRates getExchangeRates() {
+        return exchangeRates;
+    }
+}
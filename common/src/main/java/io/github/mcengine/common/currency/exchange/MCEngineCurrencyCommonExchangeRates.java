@@ -0,0 +1,93 @@
+package io.github.mcengine.common.currency.exchange;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable exchange rates between coin types configured under {@code exchange.rates}.
+ *
+ * <p>An instance is built for every config snapshot and published with it, so lookups never lock
+ * and a reload swaps the rates together with the rest of the settings.</p>
+ */
+public final class MCEngineCurrencyCommonExchangeRates {
+
+    /**
+     * Supported coin types, in matrix index order.
+     */
+    private static final List<String> COIN_TYPES = Arrays.asList("coin", "copper", "silver", "gold");
+
+    /**
+     * Rates with no exchangeable pair.
+     */
+    public static final MCEngineCurrencyCommonExchangeRates NONE = new MCEngineCurrencyCommonExchangeRates(emptyMatrix());
+
+    /**
+     * Rate matrix; {@code rates[from][to]} is the amount of {@code to} received per unit of {@code from},
+     * or {@code NaN} when the pair cannot be exchanged.
+     */
+    private final double[][] rates;
+
+    private MCEngineCurrencyCommonExchangeRates(double[][] rates) {
+        this.rates = rates;
+    }
+
+    /**
+     * Builds the rate table from the configuration. Invalid entries are logged and skipped.
+     *
+     * @param config the configuration to read rates from
+     * @return the rate table
+     */
+    public static MCEngineCurrencyCommonExchangeRates load(FileConfiguration config) {
+        double[][] matrix = emptyMatrix();
+
+        ConfigurationSection section = config.getConfigurationSection("exchange.rates");
+        if (section != null) {
+            for (String from : section.getKeys(false)) {
+                ConfigurationSection targets = section.getConfigurationSection(from);
+                int fromIndex = COIN_TYPES.indexOf(from.toLowerCase());
+                if (targets == null || fromIndex < 0) {
+                    Bukkit.getLogger().warning("Skipping exchange rates for invalid coin type: " + from);
+                    continue;
+                }
+
+                for (String to : targets.getKeys(false)) {
+                    int toIndex = COIN_TYPES.indexOf(to.toLowerCase());
+                    double rate = targets.getDouble(to, 0D);
+                    if (toIndex < 0 || toIndex == fromIndex || !Double.isFinite(rate) || rate <= 0) {
+                        Bukkit.getLogger().warning("Skipping invalid exchange rate: " + from + " -> " + to);
+                        continue;
+                    }
+                    matrix[fromIndex][toIndex] = rate;
+                }
+            }
+        }
+
+        return new MCEngineCurrencyCommonExchangeRates(matrix);
+    }
+
+    /**
+     * Returns the amount of {@code to} received for one unit of {@code from}.
+     *
+     * @param from the coin type given
+     * @param to   the coin type received
+     * @return the rate, or {@code NaN} if the pair is not exchangeable
+     */
+    public double getRate(String from, String to) {
+        int fromIndex = COIN_TYPES.indexOf(from);
+        int toIndex = COIN_TYPES.indexOf(to);
+        if (fromIndex < 0 || toIndex < 0) return Double.NaN;
+        return rates[fromIndex][toIndex];
+    }
+
+    private static double[][] emptyMatrix() {
+        double[][] matrix = new double[COIN_TYPES.size()][COIN_TYPES.size()];
+        for (double[] row : matrix) {
+            Arrays.fill(row, Double.NaN);
+        }
+        return matrix;
+    }
+}
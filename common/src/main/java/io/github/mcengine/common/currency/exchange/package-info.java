@@ -0,0 +1,5 @@
+/**
+ * This package is designed for use with Minecraft across multiple services.
+ * It provides common utilities for exchanging between coin types.
+ */
+package io.github.mcengine.common.currency.exchange;
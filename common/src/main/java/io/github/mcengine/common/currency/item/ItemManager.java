@@ -1,5 +1,6 @@
 package io.github.mcengine.common.currency.item;
 
+import io.github.mcengine.common.currency.config.MCEngineCurrencyCommonConfig;
 import me.arcaniax.hdb.api.HeadDatabaseAPI;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -11,16 +12,39 @@ import org.bukkit.persistence.PersistentDataType;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 public class ItemManager {
 
     private static final NamespacedKey CASH_KEY = new NamespacedKey("mcengine", "cash");
     private static final NamespacedKey COIN_TYPE_KEY = new NamespacedKey("mcengine", "coin_type");
+    private static final NamespacedKey CASH_ID_KEY = new NamespacedKey("mcengine", "cash_id");
 
-    public static ItemStack createCashItem(String headId, String coinType, double amount) {
-        HeadDatabaseAPI hdb = new HeadDatabaseAPI();
+    /**
+     * Looks up a head item from HeadDB.
+     *
+     * @param headId the HeadDB texture ID
+     * @return the head item, or {@code null} if HeadDB does not know the ID yet
+     */
+    public static ItemStack createHead(String headId) {
+        return new HeadDatabaseAPI().getItemHead(headId);
+    }
+
+    /**
+     * Creates a cash item for the given coin type and amount, starting from the
+     * template prebuilt in the current config snapshot when available.
+     *
+     * @param coinType the coin type stored in the item
+     * @param amount   the amount stored in the item
+     * @return the cash item
+     */
+    public static ItemStack createCashItem(String coinType, double amount) {
+        MCEngineCurrencyCommonConfig config = MCEngineCurrencyCommonConfig.get();
 
-        ItemStack item = hdb.getItemHead(headId);
+        ItemStack item = config.getCashTemplate(coinType);
+        if (item == null && config.isHookHeadDB()) {
+            item = createHead(config.getHeadId(coinType));
+        }
         if (item == null) {
             item = new ItemStack(Material.PAPER); // fallback
         }
@@ -38,6 +62,7 @@ public class ItemManager {
             meta.getPersistentDataContainer().set(CASH_KEY, PersistentDataType.BYTE, (byte) 1);
             meta.getPersistentDataContainer().set(COIN_TYPE_KEY, PersistentDataType.STRING, coinType);
             meta.getPersistentDataContainer().set(new NamespacedKey("mcengine", "amount"), PersistentDataType.DOUBLE, amount);
+            meta.getPersistentDataContainer().set(CASH_ID_KEY, PersistentDataType.STRING, UUID.randomUUID().toString());
 
             item.setItemMeta(meta);
         }
@@ -0,0 +1,44 @@
+package io.github.mcengine.common.currency.listener;
+
+import io.github.mcengine.common.currency.tabcompleter.MCEngineCurrencyCommonPlayerNameIndex;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Listener keeping the player name index used by tab completion in sync with the online players.
+ */
+public class MCEngineCurrencyCommonListenerPlayerNameIndex implements Listener {
+    private final MCEngineCurrencyCommonPlayerNameIndex nameIndex;
+
+    /**
+     * Constructs a new listener for maintaining the player name index.
+     *
+     * @param nameIndex The index to update on join and quit.
+     */
+    public MCEngineCurrencyCommonListenerPlayerNameIndex(MCEngineCurrencyCommonPlayerNameIndex nameIndex) {
+        this.nameIndex = nameIndex;
+    }
+
+    /**
+     * Adds the joining player's name to the index.
+     *
+     * @param event The PlayerJoinEvent triggered when a player joins.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        nameIndex.add(event.getPlayer().getName());
+    }
+
+    /**
+     * Removes the leaving player's name from the index.
+     *
+     * @param event The PlayerQuitEvent triggered when a player leaves.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        nameIndex.remove(event.getPlayer().getName());
+    }
+}
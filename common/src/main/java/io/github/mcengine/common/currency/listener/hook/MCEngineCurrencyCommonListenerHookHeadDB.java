@@ -1,6 +1,7 @@
 package io.github.mcengine.common.currency.listener.hook;
 
 import io.github.mcengine.api.currency.MCEngineCurrencyApi;
+import io.github.mcengine.common.currency.audit.MCEngineCurrencyCommonAudit;
 import org.bukkit.ChatColor;
 import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Player;
@@ -12,6 +13,8 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataType;
 
+import java.util.UUID;
+
 /**
  * Listener for handling HeadDB cash items that allow players to deposit currency
  * into their account by right-clicking the item.
@@ -19,6 +22,7 @@ import org.bukkit.persistence.PersistentDataType;
 public class MCEngineCurrencyCommonListenerHookHeadDB implements Listener {
 
     private final MCEngineCurrencyApi currencyApi;
+    private final MCEngineCurrencyCommonAudit audit;
 
     /**
      * Namespaced key for identifying if an item is a cash item.
@@ -35,13 +39,29 @@ public class MCEngineCurrencyCommonListenerHookHeadDB implements Listener {
      */
     private static final NamespacedKey AMOUNT_KEY = new NamespacedKey("mcengine", "amount");
 
+    /**
+     * Namespaced key for the unique ID of a cash item, used to detect the same item being redeemed twice.
+     */
+    private static final NamespacedKey CASH_ID_KEY = new NamespacedKey("mcengine", "cash_id");
+
     /**
      * Constructor for initializing the currency listener with the provided currency API.
      *
      * @param currencyApi the currency API used for depositing coins
      */
     public MCEngineCurrencyCommonListenerHookHeadDB(MCEngineCurrencyApi currencyApi) {
+        this(currencyApi, MCEngineCurrencyCommonAudit.disabled());
+    }
+
+    /**
+     * Constructor for initializing the currency listener with an audit stream fed with every redeem.
+     *
+     * @param currencyApi the currency API used for depositing coins
+     * @param audit       the audit stream fed with every redeem
+     */
+    public MCEngineCurrencyCommonListenerHookHeadDB(MCEngineCurrencyApi currencyApi, MCEngineCurrencyCommonAudit audit) {
         this.currencyApi = currencyApi;
+        this.audit = audit;
     }
 
     /**
@@ -75,9 +95,26 @@ public class MCEngineCurrencyCommonListenerHookHeadDB implements Listener {
 
         // Deposit the money to the player's account
         currencyApi.addCoin(player.getUniqueId(), coinType, amount);
+        audit.recordRedeem(player.getUniqueId(), coinType, amount, getCashId(meta));
         player.sendMessage(ChatColor.GREEN + "Deposited " + amount + " " + coinType + " from cash item.");
 
         // Remove one item from the stack
         item.setAmount(item.getAmount() - 1);
     }
+
+    /**
+     * Reads the unique ID of a cash item.
+     *
+     * @param meta the item meta
+     * @return the cash ID, or {@code null} for items created before cash IDs existed
+     */
+    private UUID getCashId(ItemMeta meta) {
+        String cashId = meta.getPersistentDataContainer().get(CASH_ID_KEY, PersistentDataType.STRING);
+        if (cashId == null) return null;
+        try {
+            return UUID.fromString(cashId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package io.github.mcengine.common.currency.listener.hook;
+
+import io.github.mcengine.common.currency.config.MCEngineCurrencyCommonConfig;
+import me.arcaniax.hdb.api.DatabaseLoadEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+
+/**
+ * Listener that rebuilds the HeadDB cash item templates once HeadDB has loaded its database.
+ *
+ * <p>HeadDB loads its heads asynchronously after the server starts, so templates built on enable
+ * may be missing. This listener is registered only while the HeadDB hook is enabled.</p>
+ */
+public class MCEngineCurrencyCommonListenerHookHeadDBLoad implements Listener {
+
+    /**
+     * Republishes the config snapshot with templates built from the freshly loaded database.
+     *
+     * @param event the DatabaseLoadEvent fired by HeadDB
+     */
+    @EventHandler
+    public void onDatabaseLoad(DatabaseLoadEvent event) {
+        MCEngineCurrencyCommonConfig.rebuildCashTemplates();
+    }
+}
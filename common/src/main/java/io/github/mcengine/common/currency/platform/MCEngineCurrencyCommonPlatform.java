@@ -0,0 +1,46 @@
+package io.github.mcengine.common.currency.platform;
+
+import org.bukkit.Bukkit;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.command.TabCompleter;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Capability hooks implemented by each server platform module.
+ *
+ * <p>The default methods are the portable Bukkit behaviour used on SpigotMC.
+ * Platforms with cheaper native paths (such as PaperMC) override them.</p>
+ */
+public interface MCEngineCurrencyCommonPlatform {
+
+    /**
+     * @return the plugin the platform hooks are registered for
+     */
+    Plugin getPlugin();
+
+    /**
+     * Registers the tab completer of a command.
+     * The portable implementation uses the synchronous {@link TabCompleter} callback.
+     *
+     * @param command   the command to complete
+     * @param completer the completer producing suggestions
+     */
+    default void registerTabCompleter(PluginCommand command, TabCompleter completer) {
+        command.setTabCompleter(completer);
+    }
+
+    /**
+     * Broadcasts a message to every online player with a permission, from any thread.
+     * The portable implementation hops back to the main thread when called asynchronously.
+     *
+     * @param message    the message to send
+     * @param permission the permission required to receive it
+     */
+    default void broadcast(String message, String permission) {
+        if (Bukkit.isPrimaryThread()) {
+            Bukkit.broadcast(message, permission);
+        } else {
+            Bukkit.getScheduler().runTask(getPlugin(), () -> Bukkit.broadcast(message, permission));
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * This package is designed for use with Minecraft across multiple services.
+ * It provides the capability hooks each server platform implements.
+ */
+package io.github.mcengine.common.currency.platform;
@@ -0,0 +1,382 @@
+package io.github.mcengine.common.currency.scheduler;
+
+import io.github.mcengine.api.currency.MCEngineCurrencyApi;
+import io.github.mcengine.common.currency.transaction.MCEngineCurrencyCommonRefund;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Runs recurring interest, tax and transfer rules.
+ *
+ * <p>Unlike an asynchronous timer, the scheduler runs on a main-thread timer. {@code MCEngineCurrencyApi} is only
+ * ever called from the main thread by the command handlers and nothing guarantees its connection is safe to share
+ * with another thread; because pay, cash and exchange also run there, a chunk's balance reads and the mutations based
+ * on them cannot interleave with a player transaction. To keep ticks short, each tick applies one chunk of at most
+ * {@code scheduler.chunk-size} accounts and stops reading balances once half of {@code scheduler.tick-budget-millis}
+ * is spent, as applying the chunk costs about as much again. The cursor is kept and the next tick continues.</p>
+ *
+ * <p>Percentage rules walk the accounts in UUID order. Before a chunk is applied, its last UUID is saved
+ * to {@code scheduler.yml} together with an {@code applying} marker, then one ledger entry for the chunk is written,
+ * then the accounts are changed and the marker is cleared. If that checkpoint cannot be written, the chunk is not
+ * applied. A run interrupted by a crash resumes after the saved cursor, so no account is ever changed twice; if the
+ * marker is still set the interrupted chunk is reported in the log for manual reconciliation instead of being replayed.</p>
+ *
+ * <p>The currency API cannot list its accounts, so a run covers the players known to this server
+ * ({@code Bukkit.getOfflinePlayers()}). Accounts in a MySQL database shared with other servers, or of players whose
+ * player data was reset, are not reached; players without a balance are skipped.</p>
+ */
+public class MCEngineCurrencyCommonScheduler {
+
+    /**
+     * Account used as sender and receiver of ledger entries created by the scheduler.
+     */
+    public static final UUID SYSTEM_UUID = new UUID(0L, 0L);
+
+    /**
+     * Interval between two checks for due rules while no run is active, in ticks.
+     */
+    private static final long CHECK_INTERVAL_TICKS = 20L * 30;
+
+    private final Plugin plugin;
+    private final MCEngineCurrencyApi currencyApi;
+    private final List<MCEngineCurrencyCommonSchedulerRule> rules;
+    private final int chunkSize;
+    private final long tickBudgetNanos;
+    private final File progressFile;
+    private final YamlConfiguration progress;
+
+    private BukkitTask task;
+    private long idleTicks;
+
+    // Percentage run in progress, or null while idle
+    private MCEngineCurrencyCommonSchedulerRule activeRule;
+    private List<UUID> accounts;
+    private int index;
+    private int chunk;
+
+    /**
+     * Constructs a scheduler from the {@code scheduler} section of the plugin configuration.
+     * Invalid rules are logged and skipped.
+     *
+     * @param plugin      the owning plugin
+     * @param currencyApi the currency API used to apply the rules
+     */
+    public MCEngineCurrencyCommonScheduler(Plugin plugin, MCEngineCurrencyApi currencyApi) {
+        this.plugin = plugin;
+        this.currencyApi = currencyApi;
+        this.chunkSize = Math.max(1, plugin.getConfig().getInt("scheduler.chunk-size", 20));
+        this.tickBudgetNanos = Math.max(1L, plugin.getConfig().getLong("scheduler.tick-budget-millis", 5L)) * 1_000_000L;
+        this.rules = new ArrayList<>();
+
+        ConfigurationSection section = plugin.getConfig().getConfigurationSection("scheduler.rules");
+        if (section != null) {
+            for (String id : section.getKeys(false)) {
+                ConfigurationSection ruleSection = section.getConfigurationSection(id);
+                if (ruleSection == null) continue;
+                try {
+                    rules.add(MCEngineCurrencyCommonSchedulerRule.fromConfig(id, ruleSection));
+                } catch (IllegalArgumentException e) {
+                    plugin.getLogger().warning("Skipping scheduler rule: " + e.getMessage());
+                }
+            }
+        }
+
+        this.progressFile = new File(plugin.getDataFolder(), "scheduler.yml");
+        this.progress = YamlConfiguration.loadConfiguration(progressFile);
+    }
+
+    /**
+     * Starts the timer. Runs left unfinished by a previous shutdown are resumed on the first check.
+     */
+    public void start() {
+        if (rules.isEmpty()) return;
+        idleTicks = CHECK_INTERVAL_TICKS;
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 20L, 1L);
+        plugin.getLogger().info("Scheduler started with " + rules.size() + " rule(s).");
+    }
+
+    /**
+     * Stops the timer. Chunks run entirely within one main-thread task, so when this is called from
+     * {@code onDisable} no chunk is in flight and the database can be disconnected right after.
+     * The active run keeps its cursor for the next start.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        activeRule = null;
+        accounts = null;
+    }
+
+    /**
+     * Applies one chunk of the active run, or checks for due rules every {@link #CHECK_INTERVAL_TICKS}.
+     */
+    private void tick() {
+        if (activeRule == null) {
+            if (++idleTicks < CHECK_INTERVAL_TICKS) return;
+            idleTicks = 0;
+            selectDueRule(System.currentTimeMillis());
+            if (activeRule == null) return;
+        }
+
+        try {
+            runChunk();
+        } catch (Exception e) {
+            // The run stays in progress in scheduler.yml and is resumed on a later check
+            plugin.getLogger().warning("Scheduler rule " + activeRule.getId() + " failed: " + e.getMessage());
+            activeRule = null;
+            accounts = null;
+        }
+    }
+
+    /**
+     * Executes due transfer rules and starts or resumes the first due percentage rule.
+     *
+     * @param now the time of the current check
+     */
+    private void selectDueRule(long now) {
+        for (MCEngineCurrencyCommonSchedulerRule rule : rules) {
+            String path = "rules." + rule.getId();
+            boolean inProgress = progress.getBoolean(path + ".in-progress", false);
+            long lastRun = progress.getLong(path + ".last-run", 0L);
+            if (!inProgress && now - lastRun < rule.getIntervalMillis()) continue;
+
+            try {
+                if (rule.getType() == MCEngineCurrencyCommonSchedulerRule.Type.TRANSFER) {
+                    runTransfer(rule, path, now);
+                } else {
+                    beginPercentage(rule, path, now, inProgress);
+                    return;
+                }
+            } catch (Exception e) {
+                plugin.getLogger().warning("Scheduler rule " + rule.getId() + " failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Starts a new interest or tax run, or resumes an interrupted one after its saved cursor.
+     *
+     * @param rule   the rule to apply
+     * @param path   the progress path of the rule
+     * @param now    the time of the current check
+     * @param resume whether an interrupted run is being continued
+     */
+    private void beginPercentage(MCEngineCurrencyCommonSchedulerRule rule, String path, long now, boolean resume) {
+        String cursor = null;
+        chunk = 0;
+        if (resume) {
+            cursor = progress.getString(path + ".cursor");
+            chunk = progress.getInt(path + ".chunk", 0);
+            if (progress.getBoolean(path + ".applying", false)) {
+                plugin.getLogger().warning("Scheduler rule " + rule.getId() + ": chunk " + chunk + " (accounts up to " + cursor
+                        + ") was interrupted while being applied and is not replayed. Reconcile it against its ledger entry.");
+                progress.set(path + ".applying", false);
+                saveProgress();
+            }
+        } else {
+            long lastRun = progress.getLong(path + ".last-run", 0L);
+            progress.set(path + ".in-progress", true);
+            progress.set(path + ".last-run", now);
+            progress.set(path + ".cursor", null);
+            progress.set(path + ".chunk", 0);
+            progress.set(path + ".applying", false);
+            if (!saveProgress()) {
+                // Not started: keep the rule due so the run starts on a later check
+                progress.set(path + ".in-progress", false);
+                progress.set(path + ".last-run", lastRun);
+                throw new IllegalStateException("could not write scheduler.yml");
+            }
+        }
+
+        accounts = getSortedAccounts();
+        index = 0;
+        if (cursor != null) {
+            int found = Collections.binarySearch(accounts, UUID.fromString(cursor));
+            index = found >= 0 ? found + 1 : -found - 1;
+        }
+        activeRule = rule;
+    }
+
+    /**
+     * Applies the next chunk of the active interest or tax run.
+     *
+     * <p>Balances are read and the deltas computed first, until the chunk is full or half the tick budget is spent;
+     * the cursor is then saved ahead of any change, followed by the chunk's ledger entry and the account updates.
+     * Running on the main thread, no player transaction can change a balance between its read and the update,
+     * so tax never exceeds the balance.</p>
+     *
+     * @throws IllegalStateException if the checkpoint could not be written; nothing was changed
+     */
+    private void runChunk() {
+        MCEngineCurrencyCommonSchedulerRule rule = activeRule;
+        String path = "rules." + rule.getId();
+        boolean tax = rule.getType() == MCEngineCurrencyCommonSchedulerRule.Type.TAX;
+        String currencyType = rule.getCurrencyType();
+        double factor = rule.getValue() / 100D;
+
+        if (index >= accounts.size()) {
+            finishPercentage(rule, path);
+            return;
+        }
+
+        long readDeadline = System.nanoTime() + tickBudgetNanos / 2;
+        int limit = Math.min(index + chunkSize, accounts.size());
+        double[] deltas = new double[limit - index];
+        double chunkTotal = 0D;
+        int end = index;
+        while (end < limit) {
+            double balance = currencyApi.getCoin(accounts.get(end), currencyType);
+            double delta = tax ? Math.min(balance * factor, balance) : balance * factor;
+            if (Double.isFinite(delta) && delta > 0) {
+                deltas[end - index] = delta;
+                chunkTotal += delta;
+            }
+            end++;
+            if (System.nanoTime() >= readDeadline) break;
+        }
+
+        // Write-ahead: once saved, a restart resumes after this chunk and never applies it twice
+        String previousCursor = progress.getString(path + ".cursor");
+        progress.set(path + ".cursor", accounts.get(end - 1).toString());
+        progress.set(path + ".chunk", chunk + 1);
+        progress.set(path + ".applying", true);
+        if (!saveProgress()) {
+            progress.set(path + ".cursor", previousCursor);
+            progress.set(path + ".chunk", chunk);
+            progress.set(path + ".applying", false);
+            throw new IllegalStateException("could not write the checkpoint of chunk " + (chunk + 1) + ", nothing was applied");
+        }
+        chunk++;
+
+        if (chunkTotal > 0) {
+            try {
+                currencyApi.createTransaction(SYSTEM_UUID, SYSTEM_UUID, currencyType, rule.getType().name().toLowerCase(),
+                        chunkTotal, "rule:" + rule.getId() + " chunk:" + chunk);
+            } catch (Exception e) {
+                // The checkpoint is written, so the chunk is applied now or never: a missing ledger entry is the lesser loss
+                plugin.getLogger().warning("Scheduler rule " + rule.getId() + ": ledger entry of chunk " + chunk + " (" + chunkTotal
+                        + " " + currencyType + ") failed, applying the chunk anyway: " + e.getMessage());
+            }
+        }
+
+        for (int i = index; i < end; i++) {
+            double delta = deltas[i - index];
+            if (delta <= 0) continue;
+            if (tax) {
+                currencyApi.minusCoin(accounts.get(i), currencyType, delta);
+            } else {
+                currencyApi.addCoin(accounts.get(i), currencyType, delta);
+            }
+        }
+
+        progress.set(path + ".applying", false);
+        saveProgress();
+        index = end;
+
+        if (index >= accounts.size()) {
+            finishPercentage(rule, path);
+        }
+    }
+
+    /**
+     * Marks the active run as complete.
+     *
+     * @param rule the completed rule
+     * @param path the progress path of the rule
+     */
+    private void finishPercentage(MCEngineCurrencyCommonSchedulerRule rule, String path) {
+        progress.set(path + ".in-progress", false);
+        progress.set(path + ".cursor", null);
+        progress.set(path + ".chunk", null);
+        progress.set(path + ".applying", null);
+        saveProgress();
+        plugin.getLogger().info("Scheduler rule " + rule.getId() + " applied to " + accounts.size() + " account(s) in " + chunk + " chunk(s).");
+        activeRule = null;
+        accounts = null;
+    }
+
+    /**
+     * Executes a fixed recurring transfer. The run is recorded before the transfer,
+     * so an interrupted transfer is never applied twice. If the credit fails, the debit is refunded.
+     *
+     * @param rule the transfer rule
+     * @param path the progress path of the rule
+     * @param now  the time of the current check
+     * @throws IllegalStateException if the run could not be recorded; nothing was changed
+     */
+    private void runTransfer(MCEngineCurrencyCommonSchedulerRule rule, String path, long now) {
+        long lastRun = progress.getLong(path + ".last-run", 0L);
+        progress.set(path + ".in-progress", false);
+        progress.set(path + ".last-run", now);
+        if (!saveProgress()) {
+            progress.set(path + ".last-run", lastRun);
+            throw new IllegalStateException("could not write scheduler.yml, transfer not applied");
+        }
+
+        String currencyType = rule.getCurrencyType();
+        double amount = rule.getValue();
+        if (currencyApi.getCoin(rule.getFrom(), currencyType) < amount) {
+            plugin.getLogger().warning("Scheduler rule " + rule.getId() + " skipped: insufficient " + currencyType + ".");
+            return;
+        }
+
+        currencyApi.minusCoin(rule.getFrom(), currencyType, amount);
+        try {
+            currencyApi.addCoin(rule.getTo(), currencyType, amount);
+        } catch (Exception e) {
+            MCEngineCurrencyCommonRefund.refund(currencyApi, plugin.getLogger(), rule.getFrom(), currencyType, amount,
+                    "Scheduler rule " + rule.getId() + " (transfer to " + rule.getTo() + ")", e);
+            return;
+        }
+
+        try {
+            currencyApi.createTransaction(rule.getFrom(), rule.getTo(), currencyType, "recurring", amount, "rule:" + rule.getId());
+        } catch (Exception e) {
+            plugin.getLogger().warning("Scheduler rule " + rule.getId() + ": ledger entry failed, balances were updated: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the players known to this server in a stable order so a stored cursor stays valid across restarts.
+     * The currency API cannot enumerate its accounts, so accounts only present in a shared database are not included.
+     *
+     * @return the account UUIDs sorted ascending
+     */
+    private List<UUID> getSortedAccounts() {
+        OfflinePlayer[] players = Bukkit.getOfflinePlayers();
+        List<UUID> accounts = new ArrayList<>(players.length);
+        for (OfflinePlayer player : players) {
+            accounts.add(player.getUniqueId());
+        }
+        Collections.sort(accounts);
+        return accounts;
+    }
+
+    /**
+     * Writes the progress file. Callers that checkpoint ahead of a change must not apply it when this fails.
+     *
+     * @return true if the file was written
+     */
+    private boolean saveProgress() {
+        try {
+            progress.save(progressFile);
+            return true;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to save scheduler progress: " + e.getMessage());
+            return false;
+        }
+    }
+}
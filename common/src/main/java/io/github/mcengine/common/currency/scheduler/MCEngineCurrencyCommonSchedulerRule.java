@@ -0,0 +1,122 @@
+package io.github.mcengine.common.currency.scheduler;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.UUID;
+
+/**
+ * Immutable description of a single recurring currency rule loaded from {@code scheduler.rules}.
+ * A rule is either a percentage rule (interest or tax) applied to every account,
+ * or a fixed recurring transfer between two accounts.
+ */
+public final class MCEngineCurrencyCommonSchedulerRule {
+
+    /**
+     * Kinds of recurring rules supported by the scheduler.
+     */
+    public enum Type {
+        INTEREST, TAX, TRANSFER
+    }
+
+    private final String id;
+    private final Type type;
+    private final String currencyType;
+    private final double value;
+    private final long intervalMillis;
+    private final UUID from;
+    private final UUID to;
+
+    private MCEngineCurrencyCommonSchedulerRule(String id, Type type, String currencyType, double value,
+                                                long intervalMillis, UUID from, UUID to) {
+        this.id = id;
+        this.type = type;
+        this.currencyType = currencyType;
+        this.value = value;
+        this.intervalMillis = intervalMillis;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Parses a rule from its configuration section.
+     *
+     * @param id      the rule key under {@code scheduler.rules}
+     * @param section the rule configuration section
+     * @return the parsed rule
+     * @throws IllegalArgumentException if the section is incomplete or invalid
+     */
+    public static MCEngineCurrencyCommonSchedulerRule fromConfig(String id, ConfigurationSection section) {
+        Type type;
+        try {
+            type = Type.valueOf(section.getString("type", "").toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid type for rule " + id + ": " + section.getString("type"));
+        }
+
+        String currencyType = section.getString("currency", "").toLowerCase();
+        if (!currencyType.matches("coin|copper|silver|gold")) {
+            throw new IllegalArgumentException("Invalid currency for rule " + id + ": " + currencyType);
+        }
+
+        long intervalSeconds = section.getLong("interval", 0L);
+        if (intervalSeconds <= 0) {
+            throw new IllegalArgumentException("Interval must be greater than zero for rule " + id + ".");
+        }
+
+        UUID from = null;
+        UUID to = null;
+        double value;
+        if (type == Type.TRANSFER) {
+            value = section.getDouble("amount", 0D);
+            try {
+                from = UUID.fromString(section.getString("from", ""));
+                to = UUID.fromString(section.getString("to", ""));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid from/to UUID for rule " + id + ".");
+            }
+        } else {
+            value = section.getDouble("rate", 0D);
+        }
+
+        if (value <= 0) {
+            throw new IllegalArgumentException("Rate or amount must be greater than zero for rule " + id + ".");
+        }
+
+        return new MCEngineCurrencyCommonSchedulerRule(id, type, currencyType, value, intervalSeconds * 1000L, from, to);
+    }
+
+    /** @return the rule key under {@code scheduler.rules} */
+    public String getId() {
+        return id;
+    }
+
+    /** @return the kind of rule */
+    public Type getType() {
+        return type;
+    }
+
+    /** @return the currency type the rule operates on */
+    public String getCurrencyType() {
+        return currencyType;
+    }
+
+    /** @return the percentage rate for interest/tax rules, or the fixed amount for transfer rules */
+    public double getValue() {
+        return value;
+    }
+
+    /** @return the interval between two runs in milliseconds */
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /** @return the paying account of a transfer rule, or {@code null} for other rules */
+    public UUID getFrom() {
+        return from;
+    }
+
+    /** @return the receiving account of a transfer rule, or {@code null} for other rules */
+    public UUID getTo() {
+        return to;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * This package is designed for use with Minecraft across multiple services.
+ * It provides common utilities for running recurring currency rules.
+ */
+package io.github.mcengine.common.currency.scheduler;
@@ -0,0 +1,134 @@
+package io.github.mcengine.common.currency.tabcompleter;
+
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Sorted index of online player names used for prefix completion.
+ *
+ * <p>Names are kept in arrays sorted by their lowercase form and updated incrementally on join and quit.
+ * Writers publish a new copy through a volatile reference, so lookups are lock-free, safe from
+ * asynchronous tab completion, and never lowercase more than the typed prefix.</p>
+ */
+public class MCEngineCurrencyCommonPlayerNameIndex {
+
+    /**
+     * Immutable pair of arrays: lowercase keys in sorted order and the display names at the same positions.
+     */
+    private static final class Snapshot {
+        private final String[] keys;
+        private final String[] names;
+
+        private Snapshot(String[] keys, String[] names) {
+            this.keys = keys;
+            this.names = names;
+        }
+    }
+
+    private volatile Snapshot snapshot = new Snapshot(new String[0], new String[0]);
+
+    /**
+     * Replaces the index content with the given players, used when the plugin is (re)enabled.
+     *
+     * @param players the players currently online
+     */
+    public synchronized void reset(Collection<? extends Player> players) {
+        snapshot = new Snapshot(new String[0], new String[0]);
+        for (Player player : players) {
+            add(player.getName());
+        }
+    }
+
+    /**
+     * Adds a player name to the index.
+     *
+     * @param name the player name
+     */
+    public synchronized void add(String name) {
+        Snapshot current = snapshot;
+        String key = name.toLowerCase(Locale.ROOT);
+        int index = lowerBound(current.keys, key);
+        if (index < current.keys.length && current.keys[index].equals(key)) return;
+
+        int size = current.keys.length;
+        String[] keys = new String[size + 1];
+        String[] names = new String[size + 1];
+        System.arraycopy(current.keys, 0, keys, 0, index);
+        System.arraycopy(current.names, 0, names, 0, index);
+        keys[index] = key;
+        names[index] = name;
+        System.arraycopy(current.keys, index, keys, index + 1, size - index);
+        System.arraycopy(current.names, index, names, index + 1, size - index);
+        snapshot = new Snapshot(keys, names);
+    }
+
+    /**
+     * Removes a player name from the index.
+     *
+     * @param name the player name
+     */
+    public synchronized void remove(String name) {
+        Snapshot current = snapshot;
+        String key = name.toLowerCase(Locale.ROOT);
+        int index = lowerBound(current.keys, key);
+        if (index >= current.keys.length || !current.keys[index].equals(key)) return;
+
+        int size = current.keys.length;
+        String[] keys = new String[size - 1];
+        String[] names = new String[size - 1];
+        System.arraycopy(current.keys, 0, keys, 0, index);
+        System.arraycopy(current.names, 0, names, 0, index);
+        System.arraycopy(current.keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(current.names, index + 1, names, index, size - index - 1);
+        snapshot = new Snapshot(keys, names);
+    }
+
+    /**
+     * Returns the names starting with the given prefix, ignoring case, in sorted order.
+     *
+     * @param prefix the typed prefix
+     * @return the matching player names
+     */
+    public List<String> find(String prefix) {
+        Snapshot current = snapshot;
+        String key = prefix.toLowerCase(Locale.ROOT);
+        int index = lowerBound(current.keys, key);
+
+        if (index >= current.keys.length || !current.keys[index].startsWith(key)) {
+            return Collections.emptyList();
+        }
+
+        List<String> matches = new ArrayList<>();
+        while (index < current.keys.length && current.keys[index].startsWith(key)) {
+            matches.add(current.names[index]);
+            index++;
+        }
+        return matches;
+    }
+
+    /**
+     * Binary search for the first position whose key is not less than the given key.
+     *
+     * @param keys the sorted keys
+     * @param key  the key to locate
+     * @return the insertion point of the key
+     */
+    private static int lowerBound(String[] keys, String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -1,10 +1,8 @@
 package io.github.mcengine.common.currency.tabcompleter;
 
-import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
-import org.bukkit.entity.Player;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -14,6 +12,7 @@ import java.util.List;
 /**
  * Provides tab completion for the /currency command.
  * Supports completion for subcommands and relevant arguments like player names and coin types.
+ * Holds no mutable state of its own, so it can also be called from asynchronous tab completion.
  */
 public class MCEngineCurrencyCommonTabCompleter implements TabCompleter {
 
@@ -21,7 +20,7 @@ public class MCEngineCurrencyCommonTabCompleter implements TabCompleter {
      * List of valid subcommands for the /currency command.
      * Used to provide suggestions when typing the first argument.
      */
-    private static final List<String> ACTIONS = Arrays.asList("add", "cash", "check", "pay");
+    private static final List<String> ACTIONS = Arrays.asList("add", "cash", "check", "exchange", "pay", "reload");
 
     /**
      * List of supported currency types.
@@ -29,6 +28,20 @@ public class MCEngineCurrencyCommonTabCompleter implements TabCompleter {
      */
     private static final List<String> COIN_TYPES = Arrays.asList("coin", "copper", "silver", "gold");
 
+    /**
+     * Sorted index of online player names, maintained on join and quit.
+     */
+    private final MCEngineCurrencyCommonPlayerNameIndex nameIndex;
+
+    /**
+     * Constructs a new tab completer.
+     *
+     * @param nameIndex The index used to complete online player names.
+     */
+    public MCEngineCurrencyCommonTabCompleter(MCEngineCurrencyCommonPlayerNameIndex nameIndex) {
+        this.nameIndex = nameIndex;
+    }
+
     /**
      * Handles tab completion for the /currency command.
      *
@@ -47,20 +60,20 @@ public class MCEngineCurrencyCommonTabCompleter implements TabCompleter {
             case 2 -> {
                 return switch (args[0].toLowerCase()) {
                     case "add", "pay" -> getOnlinePlayerNames(args[1]);
-                    case "check", "cash" -> filter(COIN_TYPES, args[1]);
+                    case "check", "cash", "exchange" -> filter(COIN_TYPES, args[1]);
                     default -> Collections.emptyList();
                 };
             }
             case 3 -> {
                 return switch (args[0].toLowerCase()) {
-                    case "add" -> filter(COIN_TYPES, args[2]);
+                    case "add", "exchange" -> filter(COIN_TYPES, args[2]);
                     case "pay", "cash" -> Collections.singletonList("<amount>");
                     default -> Collections.emptyList();
                 };
             }
             case 4 -> {
                 return switch (args[0].toLowerCase()) {
-                    case "add" -> Collections.singletonList("<amount>");
+                    case "add", "exchange" -> Collections.singletonList("<amount>");
                     case "pay" -> filter(COIN_TYPES, args[3]);
                     default -> Collections.emptyList();
                 };
@@ -81,13 +94,7 @@ public class MCEngineCurrencyCommonTabCompleter implements TabCompleter {
      * @return A list of matching player names.
      */
     private List<String> getOnlinePlayerNames(String prefix) {
-        List<String> matches = new ArrayList<>();
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.getName().toLowerCase().startsWith(prefix.toLowerCase())) {
-                matches.add(player.getName());
-            }
-        }
-        return matches;
+        return nameIndex.find(prefix);
     }
 
     /**
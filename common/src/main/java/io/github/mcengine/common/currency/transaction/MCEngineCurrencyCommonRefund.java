@@ -0,0 +1,42 @@
+package io.github.mcengine.common.currency.transaction;
+
+import io.github.mcengine.api.currency.MCEngineCurrencyApi;
+
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Refunds the debit of a two-step transfer whose credit failed, so money is never destroyed silently.
+ */
+public final class MCEngineCurrencyCommonRefund {
+
+    private MCEngineCurrencyCommonRefund() {}
+
+    /**
+     * Credits a debited amount back to its account. If the refund fails too, the account, amount and both
+     * failures are logged as severe so the balance can be restored manually.
+     *
+     * @param currencyApi the currency API the debit was made through
+     * @param logger      the logger receiving the outcome
+     * @param account     the debited account
+     * @param coinType    the debited coin type
+     * @param amount      the debited amount
+     * @param operation   a description of the failed transfer, used in the log
+     * @param cause       the failure of the credit
+     * @return true if the refund was applied
+     */
+    public static boolean refund(MCEngineCurrencyApi currencyApi, Logger logger, UUID account, String coinType, double amount,
+                                 String operation, Exception cause) {
+        try {
+            currencyApi.addCoin(account, coinType, amount);
+            logger.warning(operation + ": credit failed and " + amount + " " + coinType + " was refunded to " + account
+                    + " (" + cause.getMessage() + ").");
+            return true;
+        } catch (Exception e) {
+            logger.severe(operation + ": refund FAILED for " + account + ". Debited " + amount + " " + coinType
+                    + ", credit failed (" + cause.getMessage() + "), refund failed (" + e.getMessage() + "). Restore "
+                    + amount + " " + coinType + " manually.");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * This package is designed for use with Minecraft across multiple services.
+ * It provides common utilities for recovering from failed balance transfers.
+ */
+package io.github.mcengine.common.currency.transaction;
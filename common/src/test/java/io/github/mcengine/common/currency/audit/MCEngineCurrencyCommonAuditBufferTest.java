@@ -0,0 +1,104 @@
+package io.github.mcengine.common.currency.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MCEngineCurrencyCommonAuditBufferTest {
+
+    @Test
+    void drainsInOrderAfterWrappingAround() {
+        MCEngineCurrencyCommonAuditBuffer buffer = new MCEngineCurrencyCommonAuditBuffer(4);
+        List<Double> drained = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(offer(buffer, i));
+        }
+        assertEquals(3, buffer.drain(collect(drained), 16));
+
+        // Sequences 3..6 occupy slots 3, 0, 1, 2
+        for (int i = 3; i < 7; i++) {
+            assertTrue(offer(buffer, i));
+        }
+        assertEquals(4, buffer.drain(collect(drained), 16));
+
+        assertEquals(List.of(0D, 1D, 2D, 3D, 4D, 5D, 6D), drained);
+        assertEquals(0L, buffer.takeDropped());
+    }
+
+    @Test
+    void drainStopsAtMax() {
+        MCEngineCurrencyCommonAuditBuffer buffer = new MCEngineCurrencyCommonAuditBuffer(8);
+        List<Double> drained = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            offer(buffer, i);
+        }
+        assertEquals(2, buffer.drain(collect(drained), 2));
+        assertEquals(3, buffer.drain(collect(drained), 16));
+        assertEquals(List.of(0D, 1D, 2D, 3D, 4D), drained);
+    }
+
+    @Test
+    void dropsAndCountsEventsWhenFull() {
+        MCEngineCurrencyCommonAuditBuffer buffer = new MCEngineCurrencyCommonAuditBuffer(4);
+        List<Double> drained = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(offer(buffer, i));
+        }
+        assertFalse(offer(buffer, 4));
+        assertFalse(offer(buffer, 5));
+        assertEquals(2L, buffer.takeDropped());
+        assertEquals(0L, buffer.takeDropped());
+
+        // Draining one event frees exactly one slot
+        assertEquals(1, buffer.drain(collect(drained), 1));
+        assertTrue(offer(buffer, 6));
+        assertFalse(offer(buffer, 7));
+        assertEquals(1L, buffer.takeDropped());
+
+        assertEquals(4, buffer.drain(collect(drained), 16));
+        assertEquals(List.of(0D, 1D, 2D, 3D, 6D), drained);
+    }
+
+    @Test
+    void keepsEveryFieldOfAnEvent() {
+        MCEngineCurrencyCommonAuditBuffer buffer = new MCEngineCurrencyCommonAuditBuffer(2);
+        assertTrue(buffer.offer((byte) 3, 11L, 12L, (byte) 2, 42.5D, 13L, 14L, 15L));
+
+        long[] fields = new long[8];
+        buffer.drain((kind, playerMsb, playerLsb, currency, amount, cashMsb, cashLsb, time) -> {
+            fields[0] = kind;
+            fields[1] = playerMsb;
+            fields[2] = playerLsb;
+            fields[3] = currency;
+            fields[4] = Double.doubleToLongBits(amount);
+            fields[5] = cashMsb;
+            fields[6] = cashLsb;
+            fields[7] = time;
+        }, 1);
+
+        assertEquals(3L, fields[0]);
+        assertEquals(11L, fields[1]);
+        assertEquals(12L, fields[2]);
+        assertEquals(2L, fields[3]);
+        assertEquals(42.5D, Double.longBitsToDouble(fields[4]));
+        assertEquals(13L, fields[5]);
+        assertEquals(14L, fields[6]);
+        assertEquals(15L, fields[7]);
+    }
+
+    private static boolean offer(MCEngineCurrencyCommonAuditBuffer buffer, int value) {
+        return buffer.offer((byte) 0, value, value, (byte) 0, value, 0L, 0L, value);
+    }
+
+    private static MCEngineCurrencyCommonAuditBuffer.Consumer collect(List<Double> amounts) {
+        return (kind, playerMsb, playerLsb, currency, amount, cashMsb, cashLsb, time) -> amounts.add(amount);
+    }
+}
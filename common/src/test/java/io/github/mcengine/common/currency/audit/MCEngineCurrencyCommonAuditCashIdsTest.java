@@ -0,0 +1,55 @@
+package io.github.mcengine.common.currency.audit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MCEngineCurrencyCommonAuditCashIdsTest {
+
+    @Test
+    void detectsDuplicateInCurrentGeneration() {
+        MCEngineCurrencyCommonAuditCashIds cashIds = new MCEngineCurrencyCommonAuditCashIds(8);
+
+        assertFalse(cashIds.addAndCheckDuplicate(1L, 1L));
+        assertFalse(cashIds.addAndCheckDuplicate(1L, 2L));
+        assertTrue(cashIds.addAndCheckDuplicate(1L, 1L));
+    }
+
+    @Test
+    void detectsDuplicateAcrossGenerationSwap() {
+        // Capacity 8: a generation swaps after 4 IDs
+        MCEngineCurrencyCommonAuditCashIds cashIds = new MCEngineCurrencyCommonAuditCashIds(8);
+        for (long i = 1; i <= 4; i++) {
+            assertFalse(cashIds.addAndCheckDuplicate(i, -i));
+        }
+
+        // IDs 1..4 now sit in the previous generation
+        for (long i = 1; i <= 4; i++) {
+            assertTrue(cashIds.addAndCheckDuplicate(i, -i));
+        }
+    }
+
+    @Test
+    void forgetsOldestGenerationAfterSecondSwap() {
+        MCEngineCurrencyCommonAuditCashIds cashIds = new MCEngineCurrencyCommonAuditCashIds(8);
+        for (long i = 1; i <= 8; i++) {
+            assertFalse(cashIds.addAndCheckDuplicate(i, -i));
+        }
+
+        // 5..8 are the previous generation, 1..4 were cleared by the second swap
+        assertTrue(cashIds.addAndCheckDuplicate(5L, -5L));
+        assertFalse(cashIds.addAndCheckDuplicate(1L, -1L));
+    }
+
+    @Test
+    void handlesCollidingIds() {
+        MCEngineCurrencyCommonAuditCashIds cashIds = new MCEngineCurrencyCommonAuditCashIds(1024);
+        for (long i = 0; i < 300; i++) {
+            assertFalse(cashIds.addAndCheckDuplicate(0L, i << 32));
+        }
+        for (long i = 0; i < 300; i++) {
+            assertTrue(cashIds.addAndCheckDuplicate(0L, i << 32));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.mcengine.common.currency.audit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MCEngineCurrencyCommonAuditWindowsTest {
+
+    /**
+     * Thresholds that never flag, for inflows that only build up the window.
+     */
+    private static final double NEVER = Double.MAX_VALUE;
+
+    @Test
+    void clearsBucketsSkippedSinceLastWrite() {
+        MCEngineCurrencyCommonAuditWindows windows = new MCEngineCurrencyCommonAuditWindows(1, 1, 4);
+        windows.add(0, 0, 30D, 0L, NEVER, NEVER);
+        windows.add(0, 0, 60D, 1L, NEVER, NEVER);
+
+        // Moving to bucket 4 reuses slot 0 and clears it; only bucket 1 remains in the window
+        double baseline = windows.add(0, 0, 3D, 4L, 0D, 0D);
+        assertEquals(20D, baseline, 1e-9);
+        assertEquals(3D, windows.current(0, 0, 4L), 1e-9);
+        assertEquals(4L, windows.lastBucket(0));
+    }
+
+    @Test
+    void clearsWholeRowAfterFullWindow() {
+        MCEngineCurrencyCommonAuditWindows windows = new MCEngineCurrencyCommonAuditWindows(1, 1, 4);
+        windows.add(0, 0, 30D, 0L, NEVER, NEVER);
+        windows.add(0, 0, 60D, 1L, NEVER, NEVER);
+
+        assertEquals(0D, windows.add(0, 0, 5D, 10L, 0D, 0D), 1e-9);
+        assertEquals(5D, windows.current(0, 0, 10L), 1e-9);
+    }
+
+    @Test
+    void countsOlderBucketInLastBucket() {
+        MCEngineCurrencyCommonAuditWindows windows = new MCEngineCurrencyCommonAuditWindows(1, 1, 4);
+        windows.add(0, 0, 10D, 5L, NEVER, NEVER);
+        windows.add(0, 0, 1D, 3L, NEVER, NEVER);
+
+        assertEquals(5L, windows.lastBucket(0));
+        assertEquals(11D, windows.current(0, 0, 5L), 1e-9);
+
+        // Bucket 5 must still be live when the row advances by one
+        assertEquals(11D / 3D, windows.add(0, 0, 1D, 6L, 0D, 0D), 1e-9);
+    }
+
+    @Test
+    void flagsEachBucketOnce() {
+        MCEngineCurrencyCommonAuditWindows windows = new MCEngineCurrencyCommonAuditWindows(1, 1, 4);
+        windows.add(0, 0, 3D, 0L, NEVER, NEVER);
+
+        assertEquals(1D, windows.add(0, 0, 100D, 1L, 10D, 50D), 1e-9);
+        assertEquals(-1D, windows.add(0, 0, 100D, 1L, 10D, 50D), 1e-9);
+    }
+
+    @Test
+    void keepsRowsAndCurrenciesApart() {
+        MCEngineCurrencyCommonAuditWindows windows = new MCEngineCurrencyCommonAuditWindows(2, 2, 4);
+        windows.add(0, 0, 1D, 0L, NEVER, NEVER);
+        windows.add(0, 1, 2D, 0L, NEVER, NEVER);
+        windows.add(1, 0, 4D, 7L, NEVER, NEVER);
+
+        assertEquals(1D, windows.current(0, 0, 0L), 1e-9);
+        assertEquals(2D, windows.current(0, 1, 0L), 1e-9);
+        assertEquals(4D, windows.current(1, 0, 7L), 1e-9);
+        assertEquals(0D, windows.current(1, 1, 7L), 1e-9);
+    }
+}
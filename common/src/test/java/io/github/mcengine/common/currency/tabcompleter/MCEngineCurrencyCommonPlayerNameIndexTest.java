@@ -0,0 +1,83 @@
+package io.github.mcengine.common.currency.tabcompleter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MCEngineCurrencyCommonPlayerNameIndexTest {
+
+    @Test
+    void matchesPrefixIgnoringCase() {
+        MCEngineCurrencyCommonPlayerNameIndex index = index("Alice", "alex", "Bob", "ALBERT");
+
+        assertEquals(List.of("ALBERT", "alex", "Alice"), index.find("al"));
+        assertEquals(List.of("ALBERT", "alex", "Alice"), index.find("AL"));
+        assertEquals(List.of("Alice"), index.find("aLi"));
+        assertEquals(List.of("Bob"), index.find("b"));
+    }
+
+    @Test
+    void emptyPrefixReturnsEveryNameInOrder() {
+        MCEngineCurrencyCommonPlayerNameIndex index = index("carol", "Bob", "alice");
+
+        assertEquals(List.of("alice", "Bob", "carol"), index.find(""));
+        assertTrue(new MCEngineCurrencyCommonPlayerNameIndex().find("").isEmpty());
+    }
+
+    @Test
+    void ignoresDuplicateAdd() {
+        MCEngineCurrencyCommonPlayerNameIndex index = index("Steve", "steve", "Steve");
+
+        assertEquals(List.of("Steve"), index.find(""));
+    }
+
+    @Test
+    void ignoresRemoveOfMissingName() {
+        MCEngineCurrencyCommonPlayerNameIndex index = index("Alice", "Carol");
+
+        index.remove("Bob");
+        index.remove("Zed");
+        index.remove("");
+        assertEquals(List.of("Alice", "Carol"), index.find(""));
+
+        index.remove("ALICE");
+        assertEquals(List.of("Carol"), index.find(""));
+        index.remove("carol");
+        assertTrue(index.find("").isEmpty());
+        index.remove("carol");
+        assertTrue(index.find("").isEmpty());
+    }
+
+    @Test
+    void keepsNeighboursAtInsertionPoint() {
+        MCEngineCurrencyCommonPlayerNameIndex index = index("bb", "dd");
+
+        // The insertion point of "c" lies between two names that do not match
+        assertTrue(index.find("c").isEmpty());
+        assertTrue(index.find("bc").isEmpty());
+        assertTrue(index.find("a").isEmpty());
+        assertTrue(index.find("e").isEmpty());
+
+        index.add("cc");
+        index.add("aa");
+        index.add("ee");
+        assertEquals(List.of("aa", "bb", "cc", "dd", "ee"), index.find(""));
+        assertEquals(List.of("cc"), index.find("c"));
+
+        index.remove("cc");
+        assertEquals(List.of("aa", "bb", "dd", "ee"), index.find(""));
+        assertEquals(List.of("bb"), index.find("b"));
+        assertEquals(List.of("dd"), index.find("d"));
+    }
+
+    private static MCEngineCurrencyCommonPlayerNameIndex index(String... names) {
+        MCEngineCurrencyCommonPlayerNameIndex index = new MCEngineCurrencyCommonPlayerNameIndex();
+        for (String name : names) {
+            index.add(name);
+        }
+        return index;
+    }
+}
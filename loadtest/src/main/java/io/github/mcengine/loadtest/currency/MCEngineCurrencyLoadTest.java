@@ -0,0 +1,233 @@
+package io.github.mcengine.loadtest.currency;
+
+import io.github.mcengine.api.currency.MCEngineCurrencyApi;
+import io.github.mcengine.common.currency.audit.MCEngineCurrencyCommonAudit;
+import io.github.mcengine.common.currency.command.MCEngineCurrencyCommonCommand;
+import io.github.mcengine.common.currency.item.ItemManager;
+import io.github.mcengine.common.currency.listener.MCEngineCurrencyCommonListener;
+import io.github.mcengine.common.currency.listener.hook.MCEngineCurrencyCommonListenerHookHeadDB;
+import io.github.mcengine.common.currency.platform.MCEngineCurrencyCommonPlatform;
+import net.kyori.adventure.text.Component;
+import org.bukkit.block.BlockFace;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+/**
+ * Headless load generator for the currency plugin.
+ *
+ * <p>Drives {@link MCEngineCurrencyCommonCommand}, the join listener and the HeadDB redeem listener
+ * against a MockBukkit server and a local SQLite file or a MySQL container, with the audit stream
+ * enabled so its cost is part of every measured operation. Operations are grouped into
+ * simulated ticks; every phase reports ops/sec, latency percentiles and tick overruns. Total money is checked
+ * after the starting balances are added and again at the end, against totals computed by the harness itself
+ * rather than read back from the database under test.</p>
+ *
+ * <p>All player choices come from a seeded {@link Random}, so two runs with the same options
+ * issue the same operations in the same order.</p>
+ */
+public final class MCEngineCurrencyLoadTest {
+
+    private static final String[] COIN_TYPES = {"coin", "copper", "silver", "gold"};
+    private static final double STARTING_BALANCE = 1000D;
+
+    /**
+     * Stand-in for the plugin.yml command; the handler only reads the arguments.
+     */
+    private static final Command COMMAND = new Command("currency") {
+        @Override
+        public boolean execute(CommandSender sender, String label, String[] args) {
+            return false;
+        }
+    };
+
+    private MCEngineCurrencyLoadTest() {}
+
+    /**
+     * Runs the load test and exits with status 1 if the money conservation check fails.
+     *
+     * @param args the command line options, see {@link MCEngineCurrencyLoadTestOptions}
+     */
+    public static void main(String[] args) {
+        MCEngineCurrencyLoadTestOptions options = MCEngineCurrencyLoadTestOptions.parse(args);
+
+        ServerMock server = MockBukkit.mock();
+        MySQLContainer<?> mysql = null;
+        boolean conserved;
+        try {
+            JavaPlugin plugin = MockBukkit.createMockPlugin();
+            plugin.getConfig().set("database.type", options.db);
+
+            if (options.db.equals("mysql")) {
+                mysql = new MySQLContainer<>(DockerImageName.parse(options.mysqlImage)).withDatabaseName("minecraft");
+                mysql.start();
+                plugin.getConfig().set("database.mysql.host", mysql.getHost());
+                plugin.getConfig().set("database.mysql.port", mysql.getMappedPort(MySQLContainer.MYSQL_PORT));
+                plugin.getConfig().set("database.mysql.user", mysql.getUsername());
+                plugin.getConfig().set("database.mysql.password", mysql.getPassword());
+                plugin.getConfig().set("database.mysql.name", mysql.getDatabaseName());
+                plugin.getConfig().set("database.mysql.ssl", false);
+            } else {
+                // Start from an empty database so totals only reflect this run
+                plugin.getDataFolder().mkdirs();
+                new File(plugin.getDataFolder(), "currency-loadtest.db").delete();
+                plugin.getConfig().set("database.sqlite.path", "currency-loadtest.db");
+            }
+
+            conserved = run(server, plugin, options);
+        } finally {
+            MockBukkit.unmock();
+            if (mysql != null) {
+                mysql.stop();
+            }
+        }
+
+        System.exit(conserved ? 0 : 1);
+    }
+
+    /**
+     * Executes all phases and prints the report.
+     *
+     * @return whether total money was conserved
+     */
+    private static boolean run(ServerMock server, JavaPlugin plugin, MCEngineCurrencyLoadTestOptions options) {
+        MCEngineCurrencyApi currencyApi = new MCEngineCurrencyApi(plugin, options.db);
+        currencyApi.initDB();
+
+        // Same audit wiring as the plugin; alerts go to the plugin logger and to ops on the mocked server
+        MCEngineCurrencyCommonPlatform platform = () -> plugin;
+        MCEngineCurrencyCommonAudit audit = new MCEngineCurrencyCommonAudit(plugin, platform);
+        audit.start();
+
+        MCEngineCurrencyCommonCommand command = new MCEngineCurrencyCommonCommand(plugin, currencyApi, audit);
+        MCEngineCurrencyCommonListener joinListener = new MCEngineCurrencyCommonListener(currencyApi);
+        MCEngineCurrencyCommonListenerHookHeadDB redeemListener = new MCEngineCurrencyCommonListenerHookHeadDB(currencyApi, audit);
+        Random random = new Random(options.seed);
+
+        Player admin = server.addPlayer("loadtest_admin");
+        admin.setOp(true);
+
+        Player[] players = new Player[options.players];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = server.addPlayer(String.format("player%05d", i));
+            players[i].addAttachment(plugin, "mcengine.currency.pay", true);
+        }
+
+        System.out.printf("players=%d db=%s seed=%d opsPerTick=%d%n", options.players, options.db, options.seed, options.opsPerTick);
+
+        // Login storm: every player joins within the same few ticks
+        MCEngineCurrencyLoadTestStats login = new MCEngineCurrencyLoadTestStats("login");
+        runPhase(server, login, players.length, options.opsPerTick,
+                i -> joinListener.onPlayerJoin(new PlayerJoinEvent(players[i], Component.empty())));
+        joinListener.onPlayerJoin(new PlayerJoinEvent(admin, Component.empty()));
+
+        // Starting balances through /currency add
+        MCEngineCurrencyLoadTestStats seed = new MCEngineCurrencyLoadTestStats("add");
+        runPhase(server, seed, players.length * COIN_TYPES.length, options.opsPerTick, i -> command.onCommand(admin, COMMAND, "currency",
+                new String[]{"add", players[i / COIN_TYPES.length].getName(), COIN_TYPES[i % COIN_TYPES.length], String.valueOf(STARTING_BALANCE)}));
+
+        // Every player starts with the same balance; pays move money, only redeems add to it
+        double[] expected = new double[COIN_TYPES.length];
+        Arrays.fill(expected, players.length * STARTING_BALANCE);
+        boolean conserved = checkTotals("after add", expected, totals(currencyApi, players));
+
+        // Pay burst between random pairs of players
+        MCEngineCurrencyLoadTestStats pay = new MCEngineCurrencyLoadTestStats("pay");
+        runPhase(server, pay, options.pays, options.opsPerTick, i -> {
+            int from = random.nextInt(players.length);
+            int to = random.nextInt(players.length - 1);
+            if (to >= from) to++;
+            String coinType = COIN_TYPES[random.nextInt(COIN_TYPES.length)];
+            int amount = 1 + random.nextInt(50);
+            command.onCommand(players[from], COMMAND, "currency",
+                    new String[]{"pay", players[to].getName(), String.valueOf(amount), coinType, "loadtest"});
+        });
+
+        // Cash redeems; each redeemed item adds its amount to the expected totals
+        MCEngineCurrencyLoadTestStats redeem = new MCEngineCurrencyLoadTestStats("redeem");
+        runPhase(server, redeem, options.redeems, options.opsPerTick, i -> {
+            Player player = players[random.nextInt(players.length)];
+            int coinIndex = random.nextInt(COIN_TYPES.length);
+            int amount = 1 + random.nextInt(20);
+            ItemStack item = ItemManager.createCashItem(COIN_TYPES[coinIndex], amount);
+            player.getInventory().setItemInMainHand(item);
+            redeemListener.onRightClick(new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR, item, null, BlockFace.SELF, EquipmentSlot.HAND));
+            expected[coinIndex] += amount;
+        });
+
+        login.print();
+        seed.print();
+        pay.print();
+        redeem.print();
+
+        conserved &= checkTotals("at end", expected, totals(currencyApi, players));
+
+        audit.stop();
+        currencyApi.disConnect();
+        return conserved;
+    }
+
+    /**
+     * Runs {@code ops} operations, recording each latency and advancing the mocked scheduler
+     * by one tick after every {@code opsPerTick} operations.
+     */
+    private static void runPhase(ServerMock server, MCEngineCurrencyLoadTestStats stats, int ops, int opsPerTick, IntConsumer op) {
+        long tickStart = System.nanoTime();
+        int inTick = 0;
+        for (int i = 0; i < ops; i++) {
+            long start = System.nanoTime();
+            op.accept(i);
+            stats.record(System.nanoTime() - start);
+
+            if (++inTick == opsPerTick || i == ops - 1) {
+                stats.tick(System.nanoTime() - tickStart);
+                server.getScheduler().performOneTick();
+                inTick = 0;
+                tickStart = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Prints and compares the totals per coin type.
+     *
+     * @return whether every total matches
+     */
+    private static boolean checkTotals(String stage, double[] expected, double[] actual) {
+        boolean conserved = true;
+        for (int i = 0; i < COIN_TYPES.length; i++) {
+            boolean ok = Math.abs(actual[i] - expected[i]) <= 1e-6 * Math.max(1D, Math.abs(expected[i]));
+            conserved &= ok;
+            System.out.printf("conservation %-9s %-7s expected=%.2f actual=%.2f %s%n", stage, COIN_TYPES[i], expected[i], actual[i], ok ? "OK" : "MISMATCH");
+        }
+        return conserved;
+    }
+
+    /**
+     * Sums the balance of every player per coin type.
+     */
+    private static double[] totals(MCEngineCurrencyApi currencyApi, Player[] players) {
+        double[] totals = new double[COIN_TYPES.length];
+        for (Player player : players) {
+            for (int i = 0; i < COIN_TYPES.length; i++) {
+                totals[i] += currencyApi.getCoin(player.getUniqueId(), COIN_TYPES[i]);
+            }
+        }
+        return totals;
+    }
+}
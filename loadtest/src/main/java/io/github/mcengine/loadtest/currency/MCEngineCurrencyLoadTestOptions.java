@@ -0,0 +1,52 @@
+package io.github.mcengine.loadtest.currency;
+
+/**
+ * Command line options of the load test.
+ *
+ * <p>Usage: {@code --players <n> --pays <n> --redeems <n> --ops-per-tick <n> --seed <n> --db <sqlite|mysql> --mysql-image <image>}</p>
+ */
+final class MCEngineCurrencyLoadTestOptions {
+
+    int players = 1000;
+    int pays = 10000;
+    int redeems = 1000;
+    int opsPerTick = 20;
+    long seed = 42L;
+    String db = "sqlite";
+    String mysqlImage = "mysql:8.0";
+
+    /**
+     * Parses the command line arguments.
+     *
+     * @param args the arguments passed to {@code main}
+     * @return the parsed options
+     * @throws IllegalArgumentException if an option is unknown or has no value
+     */
+    static MCEngineCurrencyLoadTestOptions parse(String[] args) {
+        MCEngineCurrencyLoadTestOptions options = new MCEngineCurrencyLoadTestOptions();
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for option " + args[i]);
+            }
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--players" -> options.players = Integer.parseInt(value);
+                case "--pays" -> options.pays = Integer.parseInt(value);
+                case "--redeems" -> options.redeems = Integer.parseInt(value);
+                case "--ops-per-tick" -> options.opsPerTick = Math.max(1, Integer.parseInt(value));
+                case "--seed" -> options.seed = Long.parseLong(value);
+                case "--db" -> options.db = value.toLowerCase();
+                case "--mysql-image" -> options.mysqlImage = value;
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        if (!options.db.matches("sqlite|mysql")) {
+            throw new IllegalArgumentException("Invalid database type: " + options.db + ". Valid types are: sqlite, mysql.");
+        }
+        if (options.players < 2) {
+            throw new IllegalArgumentException("At least two players are required.");
+        }
+        return options;
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.mcengine.loadtest.currency;
+
+import java.util.Arrays;
+
+/**
+ * Latency and tick statistics of a single load test phase.
+ */
+final class MCEngineCurrencyLoadTestStats {
+
+    /**
+     * Length of one server tick at 20 TPS, in nanoseconds.
+     */
+    static final long TICK_NANOS = 50_000_000L;
+
+    private final String name;
+    private long[] samples = new long[1024];
+    private int count;
+    private long totalNanos;
+    private int ticks;
+    private int overruns;
+    private long maxTickNanos;
+
+    /**
+     * @param name the phase name shown in the report
+     */
+    MCEngineCurrencyLoadTestStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records the latency of one operation.
+     *
+     * @param nanos the operation latency
+     */
+    void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        totalNanos += nanos;
+    }
+
+    /**
+     * Records the duration of one simulated tick.
+     *
+     * @param nanos the work done within the tick
+     */
+    void tick(long nanos) {
+        ticks++;
+        if (nanos > TICK_NANOS) overruns++;
+        maxTickNanos = Math.max(maxTickNanos, nanos);
+    }
+
+    /**
+     * Prints a one-line summary of the phase.
+     */
+    void print() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        double opsPerSecond = totalNanos == 0 ? 0 : count / (totalNanos / 1_000_000_000D);
+
+        System.out.printf("%-12s ops=%-8d ops/sec=%-10.1f p50=%.3fms p99=%.3fms max=%.3fms ticks=%d overruns=%d maxTick=%.3fms%n",
+                name, count, opsPerSecond,
+                percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6, (count == 0 ? 0 : sorted[count - 1]) / 1e6,
+                ticks, overruns, maxTickNanos / 1e6);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0L;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * This package provides a headless load generator for the currency plugin.
+ * Run it with {@code ./gradlew -Ploadtest :loadtest:run --args="--players 2000 --db sqlite"};
+ * the module is only part of the build when the {@code loadtest} property is set.
+ */
+package io.github.mcengine.loadtest.currency;
@@ -0,0 +1,57 @@
+package io.github.mcengine.papermc.currency;
+
+import io.github.mcengine.common.currency.platform.MCEngineCurrencyCommonPlatform;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.command.TabCompleter;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * PaperMC platform hooks.
+ * Tab completion is served from {@code AsyncTabCompleteEvent} and broadcasts are sent directly
+ * from any thread, as PaperMC's messaging is thread-safe (the same guarantee {@code AsyncChatEvent} relies on).
+ */
+public class MCEngineCurrencyPlatform implements MCEngineCurrencyCommonPlatform {
+
+    private final Plugin plugin;
+
+    /**
+     * Constructs the PaperMC platform hooks.
+     *
+     * @param plugin the plugin the hooks are registered for
+     */
+    public MCEngineCurrencyPlatform(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public Plugin getPlugin() {
+        return plugin;
+    }
+
+    /**
+     * Registers the synchronous completer as a fallback and serves completions
+     * off the main thread through {@code AsyncTabCompleteEvent}.
+     *
+     * @param command   the command to complete
+     * @param completer the completer producing suggestions
+     */
+    @Override
+    public void registerTabCompleter(PluginCommand command, TabCompleter completer) {
+        command.setTabCompleter(completer);
+        plugin.getServer().getPluginManager().registerEvents(new MCEngineCurrencyTabCompleteListener(command, completer), plugin);
+    }
+
+    /**
+     * Broadcasts the message directly, without scheduling a task on the main thread.
+     * The legacy color codes of the shared message are converted to a {@code Component},
+     * as the {@code String} overload of {@code Server#broadcast} is deprecated on PaperMC.
+     *
+     * @param message    the message to send
+     * @param permission the permission required to receive it
+     */
+    @Override
+    public void broadcast(String message, String permission) {
+        plugin.getServer().broadcast(LegacyComponentSerializer.legacySection().deserialize(message), permission);
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.mcengine.papermc.currency;
+
+import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.command.TabCompleter;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+
+import java.util.List;
+
+/**
+ * Serves /currency tab completion from PaperMC's {@link AsyncTabCompleteEvent},
+ * so completing never runs on the main thread.
+ */
+public class MCEngineCurrencyTabCompleteListener implements Listener {
+
+    private final PluginCommand command;
+    private final TabCompleter completer;
+
+    /**
+     * Constructs the listener for a command.
+     *
+     * @param command   the command to complete
+     * @param completer the completer producing suggestions
+     */
+    public MCEngineCurrencyTabCompleteListener(PluginCommand command, TabCompleter completer) {
+        this.command = command;
+        this.completer = completer;
+    }
+
+    /**
+     * Completes the buffer if it targets the /currency command and marks the event handled,
+     * which skips the synchronous {@link TabCompleter} fallback.
+     *
+     * @param event the asynchronous tab completion event
+     */
+    @EventHandler
+    public void onAsyncTabComplete(AsyncTabCompleteEvent event) {
+        if (event.isHandled() || !event.isCommand()) return;
+
+        String buffer = event.getBuffer();
+        if (buffer.startsWith("/")) {
+            buffer = buffer.substring(1);
+        }
+
+        int space = buffer.indexOf(' ');
+        if (space < 0) return;
+
+        String label = buffer.substring(0, space);
+        if (!matchesCommand(label) || !command.testPermissionSilent(event.getSender())) return;
+
+        String[] args = buffer.substring(space + 1).split(" ", -1);
+        List<String> completions = completer.onTabComplete(event.getSender(), command, label, args);
+        if (completions == null) return;
+
+        event.setCompletions(completions);
+        event.setHandled(true);
+    }
+
+    /**
+     * Checks whether a label refers to the /currency command, including its namespaced form and aliases.
+     *
+     * @param label the typed command label
+     * @return true if the label targets this command
+     */
+    private boolean matchesCommand(String label) {
+        int colon = label.indexOf(':');
+        if (colon >= 0) {
+            if (!label.substring(0, colon).equalsIgnoreCase(command.getPlugin().getName())) return false;
+            label = label.substring(colon + 1);
+        }
+
+        if (label.equalsIgnoreCase(command.getName())) return true;
+        for (String alias : command.getAliases()) {
+            if (label.equalsIgnoreCase(alias)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.mcengine.spigotmc.currency;
+
+import io.github.mcengine.common.currency.platform.MCEngineCurrencyCommonPlatform;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * SpigotMC platform hooks.
+ * SpigotMC has no asynchronous tab completion or thread-safe messaging,
+ * so the portable defaults of {@link MCEngineCurrencyCommonPlatform} are used.
+ */
+public class MCEngineCurrencyPlatform implements MCEngineCurrencyCommonPlatform {
+
+    private final Plugin plugin;
+
+    /**
+     * Constructs the SpigotMC platform hooks.
+     *
+     * @param plugin the plugin the hooks are registered for
+     */
+    public MCEngineCurrencyPlatform(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public Plugin getPlugin() {
+        return plugin;
+    }
+}